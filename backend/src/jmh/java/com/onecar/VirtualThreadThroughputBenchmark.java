@@ -0,0 +1,148 @@
+package com.onecar;
+
+import com.onecar.auth.dto.SignUpRequest;
+import com.onecar.auth.repository.KftcTokenRepository;
+import com.onecar.auth.repository.OnecarMemberRepository;
+import com.onecar.auth.service.AuthService;
+import com.onecar.auth.service.KftcOAuthService;
+import com.onecar.common.stub.KftcStubServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드(Tomcat 스레드 풀) 대비 가상 스레드 모드의 고동시성 HTTP 처리량
+ * <p>
+ * 임의 포트로 서블릿 서버를 띄우고 256개 스레드가 동시에 호출한다. KFTC는 KftcStubServer(고정 지연 100ms)로 대체하며,
+ * 회원/토큰은 설정된 데이터소스(application-local.yml)에 저장했다가 종료 시 삭제하므로 개발 DB에서만 실행한다.
+ * <ul>
+ *     <li>/api/cars/my-cars: JWT 인증 + JPA 조회 (블로킹 JDBC)</li>
+ *     <li>/api/auth/user-seq-no: KFTC 자격 증명 조회 (블로킹)</li>
+ *     <li>/api/kftc/batch: KFTC 잔액 2건 일괄 조회 (Mono 반환, 비동기 처리)</li>
+ * </ul>
+ * virtualThreads=true는 Java 21 툴체인에서만 의미가 있다: ./gradlew jmh -PjavaVersion=21
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(256)
+public class VirtualThreadThroughputBenchmark {
+
+    private static final String BATCH_BODY = "{\"endpoints\":["
+            + "\"/v2.0/account/balance/fin_num?fintech_use_num=120999999999999999900000\","
+            + "\"/v2.0/account/balance/fin_num?fintech_use_num=120999999999999999900001\"]}";
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    // 플랫폼 스레드 모드의 Tomcat 최대 스레드 수 (가상 스레드 모드에서는 사용하지 않음)
+    @Param({"200"})
+    private int tomcatMaxThreads;
+
+    private KftcStubServer stubServer;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private String memberId;
+    private String authorization;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stubServer = new KftcStubServer(KftcStubServer.Settings.builder()
+                .latencyMillis(100)
+                .build())
+                .start();
+
+        context = new SpringApplicationBuilder(OnecarApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + tomcatMaxThreads,
+                        "server.tomcat.max-connections=10000",
+                        "openbanking.base-url=" + stubServer.baseUrl(),
+                        "oauth.token-refresh.enabled=false",
+                        "auth.token-fingerprint.backfill-enabled=false")
+                .run();
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        int suffix = ThreadLocalRandom.current().nextInt(10_000);
+        memberId = "jmh_vt_" + suffix;
+
+        SignUpRequest request = new SignUpRequest();
+        request.setId(memberId);
+        request.setPassword("Benchmark123!");
+        request.setPasswordConfirm("Benchmark123!");
+        request.setName("벤치마크");
+        request.setEmail(memberId + "@onecar.bench");
+        request.setPhone(String.format("010-8%03d-%04d", suffix % 1000, suffix));
+
+        String accessToken = context.getBean(AuthService.class).signUp(request).getAccessToken();
+        context.getBean(KftcOAuthService.class).processKftcOAuthCallback("jmh-vt-code-" + suffix, accessToken);
+        authorization = "Bearer " + accessToken;
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            context.getBean(KftcTokenRepository.class).deleteByMemberId(memberId);
+            context.getBean(OnecarMemberRepository.class).deleteById(memberId);
+        });
+        context.close();
+        stubServer.stop();
+    }
+
+    @Benchmark
+    public int myCars() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/cars/my-cars")).GET());
+    }
+
+    @Benchmark
+    public int userSeqNo() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/user-seq-no")).GET());
+    }
+
+    @Benchmark
+    public int kftcBatch() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/kftc/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(BATCH_BODY)));
+    }
+
+    private int send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(
+                request.header("Authorization", authorization).build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("응답 상태 " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
@@ -0,0 +1,91 @@
+package com.onecar.auth.repository;
+
+import com.onecar.OnecarApplication;
+import com.onecar.auth.entity.OnecarToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * onecar_token INSERT 처리량 (rows/s)
+ * <p>
+ * 설정된 데이터소스(application-local.yml)에 실제로 INSERT 하므로 개발 DB에서만 실행한다.
+ * jdbcBatchSize=1 은 배치 미사용, 50 은 현재 설정이다. 시퀀스 블록 크기는 DB 시퀀스의
+ * INCREMENT BY를 따르므로 db/oracle/pooled-sequences.sql 적용 전/후로 각각 실행해 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OnecarTokenInsertBenchmark {
+
+    private static final int ROWS_PER_INVOCATION = 100;
+
+    @Param({"1", "50"})
+    private String jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private OnecarTokenRepository tokenRepository;
+    private TransactionTemplate transactionTemplate;
+    private final List<Long> insertedIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(OnecarApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+                        "auth.token-fingerprint.backfill-enabled=false")
+                .run();
+        tokenRepository = context.getBean(OnecarTokenRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (int from = 0; from < insertedIds.size(); from += 1000) {
+            tokenRepository.deleteAllByIdInBatch(insertedIds.subList(from, Math.min(from + 1000, insertedIds.size())));
+        }
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public void insertTokens() {
+        List<OnecarToken> saved = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OnecarToken> tokens = new ArrayList<>(ROWS_PER_INVOCATION);
+            for (int i = 0; i < ROWS_PER_INVOCATION; i++) {
+                tokens.add(OnecarToken.builder()
+                        .memberId("jmh-bench")
+                        .accessToken(UUID.randomUUID().toString())
+                        .refreshToken(UUID.randomUUID().toString())
+                        .accessTokenExpiresAt(now)
+                        .refreshTokenExpiresAt(now)
+                        .isRevoked(true)
+                        .build());
+            }
+            return tokenRepository.saveAll(tokens);
+        });
+        saved.forEach(token -> insertedIds.add(token.getId()));
+    }
+}
@@ -0,0 +1,69 @@
+package com.onecar.auth.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+
+import java.security.Key;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청당 JWT 처리 비용 비교
+ * <ul>
+ *     <li>legacyFilterPath: 기존 방식 (validateToken + getUsernameFromToken, 매번 파서 생성 후 2회 검증)</li>
+ *     <li>prebuiltParser: 파서 재사용, 캐시 없이 1회 검증</li>
+ *     <li>cachedParseAndVerify: parseAndVerify 캐시 적중</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET =
+            "onecar-benchmark-secret-key-onecar-benchmark-secret-key-onecar-benchmark-secret-key";
+
+    private Key key;
+    private JwtParser prebuiltParser;
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        prebuiltParser = Jwts.parserBuilder().setSigningKey(key).build();
+        provider = new JwtTokenProvider(SECRET, 3600, 1209600, 10000);
+
+        User user = new User("onecar_user", "", List.of());
+        token = provider.createAccessToken(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        provider.parseAndVerify(token);
+    }
+
+    @Benchmark
+    public String legacyFilterPath() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public String prebuiltParser() {
+        return prebuiltParser.parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String cachedParseAndVerify() {
+        return provider.parseAndVerify(token).getSubject();
+    }
+}
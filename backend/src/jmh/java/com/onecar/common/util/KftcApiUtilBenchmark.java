@@ -0,0 +1,102 @@
+package com.onecar.common.util;
+
+import com.onecar.OnecarApplication;
+import com.onecar.auth.dto.SignUpRequest;
+import com.onecar.auth.repository.KftcTokenRepository;
+import com.onecar.auth.repository.OnecarMemberRepository;
+import com.onecar.auth.service.AuthService;
+import com.onecar.auth.service.KftcOAuthService;
+import com.onecar.common.stub.KftcStubServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OneCar 토큰 -> KFTC 토큰 조회 -> KFTC 호출 경로의 처리량과 지연 분포
+ * <p>
+ * KFTC 대신 KftcStubServer(고정 지연 50ms)를 사용하고, 회원/토큰은 설정된 데이터소스(application-local.yml)에
+ * 실제로 저장했다가 종료 시 삭제하므로 개발 DB에서만 실행한다.
+ * <ul>
+ *     <li>/v2.0/account/list: 응답 캐시 대상 (캐시 적중 경로)</li>
+ *     <li>/v2.0/account/balance/fin_num: 캐시 비대상 (매번 스텁 호출)</li>
+ * </ul>
+ * 모든 스레드가 같은 회원으로 호출하므로 캐시 비대상 결과에는 동시 중복 요청 병합(SingleFlight) 효과가 포함된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class KftcApiUtilBenchmark {
+
+    @Param({"/v2.0/account/list", "/v2.0/account/balance/fin_num?fintech_use_num=120999999999999999900000"})
+    private String endpoint;
+
+    private KftcStubServer stubServer;
+    private ConfigurableApplicationContext context;
+    private KftcApiUtil kftcApiUtil;
+    private String memberId;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stubServer = new KftcStubServer(KftcStubServer.Settings.builder()
+                .latencyMillis(50)
+                .build())
+                .start();
+
+        context = new SpringApplicationBuilder(OnecarApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "openbanking.base-url=" + stubServer.baseUrl(),
+                        "oauth.token-refresh.enabled=false",
+                        "auth.token-fingerprint.backfill-enabled=false")
+                .run();
+        kftcApiUtil = context.getBean(KftcApiUtil.class);
+
+        int suffix = ThreadLocalRandom.current().nextInt(10_000);
+        memberId = "jmh_kftc_" + suffix;
+
+        SignUpRequest request = new SignUpRequest();
+        request.setId(memberId);
+        request.setPassword("Benchmark123!");
+        request.setPasswordConfirm("Benchmark123!");
+        request.setName("벤치마크");
+        request.setEmail(memberId + "@onecar.bench");
+        request.setPhone(String.format("010-9%03d-%04d", suffix % 1000, suffix));
+
+        accessToken = context.getBean(AuthService.class).signUp(request).getAccessToken();
+        context.getBean(KftcOAuthService.class).processKftcOAuthCallback("jmh-stub-code-" + suffix, accessToken);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            context.getBean(KftcTokenRepository.class).deleteByMemberId(memberId);
+            context.getBean(OnecarMemberRepository.class).deleteById(memberId);
+        });
+        context.close();
+        stubServer.stop();
+    }
+
+    @Benchmark
+    public String callKftcGetApi() {
+        return kftcApiUtil.callKftcGetApi(accessToken, endpoint, String.class);
+    }
+}
@@ -1,6 +1,8 @@
 package com.onecar.auth.config;
 
-import com.onecar.auth.service.CustomUserDetailsService;
+import com.onecar.auth.service.MemberPrincipalService;
+import com.onecar.auth.service.TokenRevocationRegistry;
+import com.onecar.auth.util.JwtClaims;
 import com.onecar.auth.util.JwtTokenProvider;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,6 +19,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -24,7 +27,8 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final MemberPrincipalService memberPrincipalService;
+    private final TokenRevocationRegistry revocationRegistry;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
@@ -32,10 +36,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         String jwt = getJwtFromRequest(request);
         
-        if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-            String username = jwtTokenProvider.getUsernameFromToken(jwt);
-            
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+        Optional<JwtClaims> claims = StringUtils.hasText(jwt) ? jwtTokenProvider.resolveClaims(jwt) : Optional.empty();
+        
+        // refresh token은 인증에 사용할 수 없다 (폐기 목록은 access token만 관리한다)
+        if (claims.isPresent() && !claims.get().isAccessToken()) {
+            log.debug("access token이 아닌 토큰 사용 - memberId: {}", claims.get().getSubject());
+            claims = Optional.empty();
+        }
+        
+        // 로그아웃 등으로 폐기된 토큰 거부 (메모리 조회)
+        if (claims.isPresent() && revocationRegistry.isRevoked(claims.get().getTokenHash())) {
+            log.debug("폐기된 토큰 사용 - memberId: {}", claims.get().getSubject());
+            claims = Optional.empty();
+        }
+        
+        if (claims.isPresent()) {
+            // 토큰 클레임 + 회원 상태 캐시로 인증 주체 구성 (DB 조회 없음)
+            UserDetails userDetails = memberPrincipalService.resolve(claims.get());
             
             if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication = 
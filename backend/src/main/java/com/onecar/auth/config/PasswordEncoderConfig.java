@@ -0,0 +1,76 @@
+package com.onecar.auth.config;
+
+import com.onecar.auth.util.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String CALIBRATION_PASSWORD = "OnecarCalibration123!";
+
+    @Value("${auth.password-hashing.pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int poolSize;
+
+    @Value("${auth.password-hashing.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${auth.password-hashing.target-millis:250}")
+    private long targetMillis;
+
+    @Value("${auth.password-hashing.min-strength:10}")
+    private int minStrength;
+
+    @Value("${auth.password-hashing.max-strength:14}")
+    private int maxStrength;
+
+    @Bean
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int strength = calibrateStrength();
+        Gauge.builder("auth.password.bcrypt.strength", () -> strength)
+                .register(meterRegistry);
+
+        log.info("BCrypt 강도 설정 - strength: {}, pool: {}, queue: {}", strength, poolSize, queueCapacity);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize, queueCapacity, meterRegistry);
+    }
+
+    /**
+     * 목표 해싱 시간을 넘지 않는 가장 높은 강도 선택 (최소 강도 보장).
+     * 저장된 해시는 자신의 강도를 포함하므로 강도가 바뀌어도 기존 비밀번호 검증에는 영향이 없다.
+     */
+    private int calibrateStrength() {
+        int strength = minStrength;
+
+        for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+            long elapsedMillis = measureHashMillis(candidate);
+            log.debug("BCrypt 강도 측정 - strength: {}, {}ms", candidate, elapsedMillis);
+
+            if (elapsedMillis > targetMillis) {
+                if (candidate == minStrength) {
+                    log.warn("최소 BCrypt 강도({})가 목표 시간({}ms)을 초과합니다 - {}ms",
+                            minStrength, targetMillis, elapsedMillis);
+                }
+                break;
+            }
+            strength = candidate;
+        }
+
+        return strength;
+    }
+
+    private long measureHashMillis(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(CALIBRATION_PASSWORD); // warm-up
+
+        long start = System.nanoTime();
+        encoder.encode(CALIBRATION_PASSWORD);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -1,9 +1,11 @@
 package com.onecar.auth.config;
 
 import com.onecar.auth.service.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -12,7 +14,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -31,17 +32,13 @@ public class SecurityConfig {
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
-    
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    private final PasswordEncoder passwordEncoder; // PasswordEncoderConfig
     
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(customUserDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
     
@@ -59,10 +56,16 @@ public class SecurityConfig {
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
+                // Mono 반환 컨트롤러의 비동기 디스패치 (인가는 최초 요청에서 완료됨)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // 인증 없이 접근 가능한 경로
                 .requestMatchers("/api/auth/signup", "/api/auth/signin", "/api/auth/check-id/**").permitAll()
                 .requestMatchers("/api/auth/kftc-oauth-redirect-callback").permitAll()
-                .requestMatchers("/api/health", "/actuator/**").permitAll()
+                .requestMatchers("/api/health", "/actuator/health", "/actuator/health/**").permitAll()
+                // 캐시/커넥션 풀/실행기 지표는 관리자만 조회
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                // <img>에서 토큰 없이 요청하는 차량 제원 이미지
+                .requestMatchers(HttpMethod.GET, "/api/cars/*/image", "/api/cars/images/*").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**").permitAll()
                 // 나머지는 인증 필요
                 .anyRequest().authenticated()
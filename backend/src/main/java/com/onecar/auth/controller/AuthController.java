@@ -12,15 +12,16 @@ import com.onecar.common.dto.BasicResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
-import java.io.IOException;
+import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
@@ -175,7 +176,7 @@ public class AuthController {
         summary = "KFTC OAuth 콜백 처리", 
         description = "KFTC에서 OAuth 인증 완료 후 받은 Authorization Code로 user_seq_no를 업데이트합니다."
     )
-    public ResponseEntity<BasicResponse> handleKftcOAuthCallback(
+    public Mono<ResponseEntity<BasicResponse>> handleKftcOAuthCallback(
             @Parameter(hidden = true) @RequestHeader("Authorization") String authorization,
             @Valid @RequestBody KftcOAuthCallbackRequest request) {
         
@@ -184,15 +185,13 @@ public class AuthController {
         
         log.info("KFTC OAuth 콜백 처리 시작 - code: {}", code.substring(0, Math.min(code.length(), 10)) + "...");
         
-        kftcOAuthService.processKftcOAuthCallback(code, accessToken);
-        
-        BasicResponse response = BasicResponse.builder()
-                .status(200)
-                .message("KFTC OAuth 연동이 완료되었습니다.")
-                .data(null)
-                .build();
-        
-        return ResponseEntity.ok(response);
+        // KFTC 응답을 기다리는 동안 서블릿 스레드를 반환
+        return kftcOAuthService.processKftcOAuthCallbackAsync(code, accessToken)
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok(BasicResponse.builder()
+                        .status(200)
+                        .message("KFTC OAuth 연동이 완료되었습니다.")
+                        .data(null)
+                        .build())));
     }
     
     @GetMapping("/kftc-oauth-url")
@@ -239,33 +238,34 @@ public class AuthController {
         summary = "KFTC OAuth 리디렉트 콜백", 
         description = "KFTC OAuth 인증 완료 후 자동으로 호출되는 엔드포인트입니다. 자동으로 토큰을 교환하고 user_seq_no를 업데이트한 후 성공 페이지로 리디렉트합니다."
     )
-    public void handleKftcOAuthRedirectCallback(
+    public Mono<ResponseEntity<Void>> handleKftcOAuthRedirectCallback(
             @RequestParam("code") String code,
-            @RequestParam("state") String state,
-            HttpServletResponse response) throws IOException {
+            @RequestParam("state") String state) {
         
         log.info("KFTC OAuth 리디렉트 콜백 처리 시작 - code: {}, state: {}", 
                 code.substring(0, Math.min(code.length(), 10)) + "...", state);
         
-        try {
-            // OAuth 콜백 자동 처리
-            String memberId = kftcOAuthService.processKftcOAuthRedirectCallback(code, state);
-            
-            log.info("KFTC OAuth 연동 완료 - memberId: {}", memberId);
-            
-            // 성공 페이지로 리디렉트
-            String successUrl = frontendBaseUrl + frontendOAuthSuccessPath;
-            response.sendRedirect(successUrl);
-            
-        } catch (Exception e) {
-            log.error("KFTC OAuth 연동 실패 - code: {}, state: {}, error: {}", 
-                    code, state, e.getMessage(), e);
-            
-            // 오류 페이지로 리디렉트
-            String errorUrl = frontendBaseUrl + frontendOAuthErrorPath;
-            response.sendRedirect(errorUrl);
-        }
+        // OAuth 콜백 자동 처리
+        return kftcOAuthService.processKftcOAuthRedirectCallbackAsync(code, state)
+                .map(memberId -> {
+                    log.info("KFTC OAuth 연동 완료 - memberId: {}", memberId);
+                    
+                    // 성공 페이지로 리디렉트
+                    return redirectTo(frontendBaseUrl + frontendOAuthSuccessPath);
+                })
+                .onErrorResume(e -> {
+                    log.error("KFTC OAuth 연동 실패 - code: {}, state: {}, error: {}", 
+                            code, state, e.getMessage(), e);
+                    
+                    // 오류 페이지로 리디렉트
+                    return Mono.just(redirectTo(frontendBaseUrl + frontendOAuthErrorPath));
+                });
+    }
+    
+    private static ResponseEntity<Void> redirectTo(String url) {
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create(url))
+                .build();
     }
-
 
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.onecar.auth.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * KFTC OAuth 리디렉트 흐름의 state (OAuthStateStore 저장 단위)
+ */
+@Getter
+@Builder
+public class OAuthState {
+
+    private final String sessionId;
+    private final String state;
+    private final String memberId;
+    private final LocalDateTime expiresAt;
+
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(expiresAt);
+    }
+}
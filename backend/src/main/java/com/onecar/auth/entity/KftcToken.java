@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Entity
@@ -18,7 +19,8 @@ import java.time.LocalDateTime;
 public class KftcToken extends DateTimeEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "kftc_token_seq")
+    @SequenceGenerator(name = "kftc_token_seq", sequenceName = "KFTC_TOKEN_SEQ", allocationSize = 50)
     private Long id;
     
     @Column(name = "member_id", nullable = false, length = 50)
@@ -46,6 +48,15 @@ public class KftcToken extends DateTimeEntity {
     @Column(name = "scope", length = 100)
     private String scope;
     
+    // 사전 갱신 연속 실패 횟수 (갱신 성공 시 초기화)
+    @Column(name = "refresh_failure_count")
+    @Builder.Default
+    private Integer refreshFailureCount = 0;
+    
+    // 사전 갱신 실패 후 다음 시도 가능 시각 (null이면 바로 시도)
+    @Column(name = "refresh_retry_at")
+    private LocalDateTime refreshRetryAt;
+    
     // 비즈니스 메서드
     public void updateTokenInfo(String accessToken, String refreshToken, String tokenType, 
                                Integer expiresIn, String scope) {
@@ -55,6 +66,17 @@ public class KftcToken extends DateTimeEntity {
         this.expiresIn = expiresIn;
         this.expiresAt = expiresIn != null ? LocalDateTime.now().plusSeconds(expiresIn) : null;
         this.scope = scope;
+        this.refreshFailureCount = 0;
+        this.refreshRetryAt = null;
+    }
+    
+    /**
+     * 갱신 실패 기록. 다음 시도는 baseDelay * 2^(실패 횟수 - 1) 뒤로 미루되 maxDelay를 넘지 않는다.
+     */
+    public void recordRefreshFailure(Duration baseDelay, Duration maxDelay) {
+        this.refreshFailureCount = (refreshFailureCount != null ? refreshFailureCount : 0) + 1;
+        Duration delay = baseDelay.multipliedBy(1L << Math.min(refreshFailureCount - 1, 20));
+        this.refreshRetryAt = LocalDateTime.now().plus(delay.compareTo(maxDelay) > 0 ? maxDelay : delay);
     }
     
     public boolean isExpired() {
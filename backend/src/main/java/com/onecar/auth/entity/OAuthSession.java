@@ -10,7 +10,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "oauth_session")
+@Table(name = "oauth_session", indexes = {
+        @Index(name = "ux_oauth_session_state", columnList = "state", unique = true),
+        @Index(name = "idx_oauth_session_member", columnList = "member_id"),
+        @Index(name = "idx_oauth_session_expires_at", columnList = "expires_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -19,7 +23,7 @@ public class OAuthSession extends DateTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "oauth_session_seq")
-    @SequenceGenerator(name = "oauth_session_seq", sequenceName = "OAUTH_SESSION_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "oauth_session_seq", sequenceName = "OAUTH_SESSION_SEQ", allocationSize = 50)
     private Long id;
     
     @Column(name = "session_id", nullable = false, unique = true, length = 255)
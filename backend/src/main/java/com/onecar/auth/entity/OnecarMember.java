@@ -2,10 +2,12 @@ package com.onecar.auth.entity;
 
 import com.onecar.common.domain.DateTimeEntity;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -14,12 +16,19 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
-@Table(name = "onecar_member")
+@Table(name = "onecar_member", uniqueConstraints = {
+        @UniqueConstraint(name = OnecarMember.EMAIL_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = OnecarMember.PHONE_CONSTRAINT, columnNames = "phone")
+})
+@EntityListeners(OnecarMemberEntityListener.class)
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class OnecarMember extends DateTimeEntity implements UserDetails {
+public class OnecarMember extends DateTimeEntity implements UserDetails, Persistable<String> {
+    
+    public static final String EMAIL_CONSTRAINT = "uk_onecar_member_email";
+    public static final String PHONE_CONSTRAINT = "uk_onecar_member_phone";
     
     @Id
     @Column(name = "id", length = 50)
@@ -46,6 +55,23 @@ public class OnecarMember extends DateTimeEntity implements UserDetails {
     @Builder.Default
     private Boolean isActive = true;
     
+    // 아이디를 직접 지정하므로 save() 시 merge(SELECT 후 INSERT) 대신 바로 INSERT 하도록 신규 여부 관리
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    private boolean newMember = true;
+    
+    @Override
+    public boolean isNew() {
+        return newMember;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newMember = false;
+    }
+    
     // Spring Security UserDetails 구현
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -0,0 +1,43 @@
+package com.onecar.auth.entity;
+
+import com.onecar.auth.service.MemberPrincipalService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원 상태 변경(activate/deactivate 등) 시 인증 주체 캐시 무효화
+ */
+@RequiredArgsConstructor
+public class OnecarMemberEntityListener {
+
+    // EntityManagerFactory 생성 중 순환 참조를 피하기 위해 지연 조회
+    private final ObjectProvider<MemberPrincipalService> memberPrincipalService;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onMemberChanged(OnecarMember member) {
+        MemberPrincipalService service = memberPrincipalService.getIfAvailable();
+        if (service == null) {
+            return;
+        }
+
+        String memberId = member.getId();
+        service.evict(memberId);
+
+        // 커밋 전 다른 요청이 이전 상태를 다시 캐시하는 경우를 막기 위해 커밋 후 한 번 더 무효화
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    service.evict(memberId);
+                }
+            });
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.onecar.auth.entity;
 
+import com.onecar.auth.util.TokenHashUtil;
 import com.onecar.common.domain.DateTimeEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -10,7 +11,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "onecar_token")
+@Table(name = "onecar_token", indexes = {
+        @Index(name = "ux_onecar_token_access_hash", columnList = "access_token_hash", unique = true),
+        @Index(name = "ux_onecar_token_refresh_hash", columnList = "refresh_token_hash", unique = true),
+        @Index(name = "ix_onecar_token_revoked_expires", columnList = "is_revoked, access_token_expires_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -19,7 +24,7 @@ public class OnecarToken extends DateTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "token_seq")
-    @SequenceGenerator(name = "token_seq", sequenceName = "ONECAR_TOKEN_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "token_seq", sequenceName = "ONECAR_TOKEN_SEQ", allocationSize = 50)
     private Long id;
     
     @Column(name = "member_id", nullable = false, length = 50)
@@ -31,6 +36,13 @@ public class OnecarToken extends DateTimeEntity {
     @Column(name = "refresh_token", nullable = false, length = 4000)
     private String refreshToken;
     
+    // 조회용 SHA-256 지문 (기존 행은 TokenFingerprintBackfillService가 채운다)
+    @Column(name = "access_token_hash", length = TokenHashUtil.HASH_LENGTH)
+    private String accessTokenHash;
+    
+    @Column(name = "refresh_token_hash", length = TokenHashUtil.HASH_LENGTH)
+    private String refreshTokenHash;
+    
     @Column(name = "access_token_expires_at", nullable = false)
     private LocalDateTime accessTokenExpiresAt;
     
@@ -41,9 +53,23 @@ public class OnecarToken extends DateTimeEntity {
     @Builder.Default
     private Boolean isRevoked = false;
     
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+    
+    @PrePersist
+    public void assignFingerprints() {
+        if (accessTokenHash == null) {
+            accessTokenHash = TokenHashUtil.sha256Hex(accessToken);
+        }
+        if (refreshTokenHash == null) {
+            refreshTokenHash = TokenHashUtil.sha256Hex(refreshToken);
+        }
+    }
+    
     // 비즈니스 메서드
     public void revoke() {
         this.isRevoked = true;
+        this.revokedAt = LocalDateTime.now();
     }
     
     public boolean isExpired() {
@@ -1,9 +1,13 @@
 package com.onecar.auth.repository;
 
 import com.onecar.auth.entity.KftcToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +17,14 @@ public interface KftcTokenRepository extends JpaRepository<KftcToken, Long> {
     boolean existsByMemberId(String memberId);
     boolean existsByUserSeqNo(String userSeqNo);
     void deleteByMemberId(String memberId);
+    
+    /**
+     * 갱신 대상: threshold 전에 만료되지만 refresh token은 아직 유효하고(expiresAt > refreshableAfter),
+     * 이전 실패의 재시도 대기 시간이 지난 토큰
+     */
+    @Query("SELECT t FROM KftcToken t WHERE t.id > :lastId AND t.expiresAt < :threshold"
+            + " AND t.expiresAt > :refreshableAfter"
+            + " AND (t.refreshRetryAt IS NULL OR t.refreshRetryAt <= :now) ORDER BY t.id")
+    List<KftcToken> findRefreshBatch(Long lastId, LocalDateTime threshold, LocalDateTime refreshableAfter,
+                                     LocalDateTime now, Pageable pageable);
 }
\ No newline at end of file
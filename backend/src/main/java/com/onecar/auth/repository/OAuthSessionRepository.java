@@ -1,7 +1,9 @@
 package com.onecar.auth.repository;
 
 import com.onecar.auth.entity.OAuthSession;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -18,8 +20,22 @@ public interface OAuthSessionRepository extends JpaRepository<OAuthSession, Long
     
     List<OAuthSession> findByMemberIdAndIsCompletedFalse(String memberId);
     
-    @Query("SELECT s FROM OAuthSession s WHERE s.expiresAt < :now AND s.isCompleted = false")
-    List<OAuthSession> findExpiredSessions(LocalDateTime now);
+    @Modifying
+    @Query("UPDATE OAuthSession s SET s.isCompleted = true WHERE s.memberId = :memberId AND s.isCompleted = false")
+    int completeOpenSessionsByMemberId(String memberId);
     
-    void deleteByMemberIdAndIsCompletedTrue(String memberId);
-} 
\ No newline at end of file
+    @Modifying
+    @Query("UPDATE OAuthSession s SET s.isCompleted = true WHERE s.state = :state AND s.isCompleted = false")
+    int completeByState(String state);
+    
+    @Query("SELECT s.id FROM OAuthSession s WHERE s.expiresAt < :now ORDER BY s.id")
+    List<Long> findExpiredSessionIds(LocalDateTime now, Pageable pageable);
+    
+    @Modifying
+    @Query("DELETE FROM OAuthSession s WHERE s.id IN :ids")
+    int deleteAllByIdIn(List<Long> ids);
+    
+    @Modifying
+    @Query("DELETE FROM OAuthSession s WHERE s.memberId = :memberId AND s.isCompleted = true")
+    int deleteByMemberIdAndIsCompletedTrue(String memberId);
+}
@@ -1,24 +1,77 @@
 package com.onecar.auth.repository;
 
 import com.onecar.auth.entity.OnecarToken;
+import com.onecar.auth.util.TokenHashUtil;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OnecarTokenRepository extends JpaRepository<OnecarToken, Long> {
     
-    Optional<OnecarToken> findByAccessTokenAndIsRevokedFalse(String accessToken);
+    Optional<OnecarToken> findByAccessTokenHashAndIsRevokedFalse(String accessTokenHash);
     
-    Optional<OnecarToken> findByRefreshTokenAndIsRevokedFalse(String refreshToken);
+    Optional<OnecarToken> findByRefreshTokenHashAndIsRevokedFalse(String refreshTokenHash);
+    
+    // 4000자 토큰 컬럼 대신 고정 길이 지문 인덱스로 조회
+    default Optional<OnecarToken> findActiveByAccessToken(String accessToken) {
+        return findByAccessTokenHashAndIsRevokedFalse(TokenHashUtil.sha256Hex(accessToken));
+    }
+    
+    default Optional<OnecarToken> findActiveByRefreshToken(String refreshToken) {
+        return findByRefreshTokenHashAndIsRevokedFalse(TokenHashUtil.sha256Hex(refreshToken));
+    }
     
     List<OnecarToken> findByMemberIdAndIsRevokedFalse(String memberId);
     
+    List<OnecarToken> findByMemberIdAndIsRevokedFalseAndAccessTokenExpiresAtAfter(String memberId, LocalDateTime now);
+    
+    // 폐기 목록 구성용: 엔티티 대신 지문과 만료 시각만 조회 (ix_onecar_token_revoked_expires)
+    @Query("SELECT t.accessTokenHash AS accessTokenHash, t.accessTokenExpiresAt AS accessTokenExpiresAt " +
+           "FROM OnecarToken t WHERE t.isRevoked = true AND t.accessTokenExpiresAt > :now " +
+           "AND t.accessTokenHash IS NOT NULL")
+    List<RevokedToken> findRevokedUnexpired(LocalDateTime now);
+    
+    // 지문 백필 전 행은 원문으로 지문을 계산해야 하므로 따로 조회 (백필 후에는 결과 없음)
+    @Query("SELECT t.accessToken AS accessToken, t.accessTokenExpiresAt AS accessTokenExpiresAt " +
+           "FROM OnecarToken t WHERE t.isRevoked = true AND t.accessTokenExpiresAt > :now " +
+           "AND t.accessTokenHash IS NULL")
+    List<UnhashedRevokedToken> findRevokedUnexpiredWithoutFingerprint(LocalDateTime now);
+    
     @Modifying
-    @Query("UPDATE OnecarToken t SET t.isRevoked = true WHERE t.memberId = :memberId")
+    @Query("UPDATE OnecarToken t SET t.isRevoked = true, t.revokedAt = LOCAL_DATETIME " +
+           "WHERE t.memberId = :memberId AND t.isRevoked = false")
     void revokeAllTokensByMemberId(String memberId);
-}
\ No newline at end of file
+    
+    @Query("SELECT t FROM OnecarToken t WHERE t.id > :lastId " +
+           "AND (t.accessTokenHash IS NULL OR t.refreshTokenHash IS NULL) ORDER BY t.id")
+    List<OnecarToken> findFingerprintBackfillBatch(Long lastId, Pageable pageable);
+    
+    // 보존 기간이 지난 행: refresh token 만료, 또는 폐기 후 유예 기간 경과 (access token 만료 이후만)
+    @Query("SELECT t.id FROM OnecarToken t WHERE t.id > :lastId " +
+           "AND (t.refreshTokenExpiresAt < :now " +
+           "OR (t.isRevoked = true AND t.accessTokenExpiresAt < :now " +
+           "AND COALESCE(t.revokedAt, t.modifiedAt, t.createdAt) < :revokedBefore)) " +
+           "ORDER BY t.id")
+    List<Long> findPurgeCandidateIds(Long lastId, LocalDateTime now, LocalDateTime revokedBefore, Pageable pageable);
+    
+    @Modifying
+    @Query("DELETE FROM OnecarToken t WHERE t.id IN :ids")
+    int deleteAllByIdIn(List<Long> ids);
+    
+    interface RevokedToken {
+        String getAccessTokenHash();
+        LocalDateTime getAccessTokenExpiresAt();
+    }
+    
+    interface UnhashedRevokedToken {
+        String getAccessToken();
+        LocalDateTime getAccessTokenExpiresAt();
+    }
+}
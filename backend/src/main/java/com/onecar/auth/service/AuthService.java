@@ -9,11 +9,17 @@ import com.onecar.auth.entity.OnecarToken;
 import com.onecar.auth.repository.KftcTokenRepository;
 import com.onecar.auth.repository.OnecarMemberRepository;
 import com.onecar.auth.repository.OnecarTokenRepository;
+import com.onecar.auth.util.JwtClaims;
 import com.onecar.auth.util.JwtTokenProvider;
 import com.onecar.common.exception.BusinessException;
 import com.onecar.common.exception.ErrorCode;
+import com.onecar.common.util.DataIntegrityUtil;
+import com.onecar.common.util.KftcResponseCache;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -35,6 +41,9 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final KftcCredentialCache kftcCredentialCache;
+    private final KftcResponseCache kftcResponseCache;
     
     @Transactional
     public AuthResponse signUp(SignUpRequest request) {
@@ -43,20 +52,7 @@ public class AuthService {
         // 입력값 검증
         validateSignUpRequest(request);
         
-        // 중복 확인
-        if (memberRepository.existsById(request.getId())) {
-            throw new BusinessException(ErrorCode.DUPLICATE_USER_ID);
-        }
-        
-        if (memberRepository.existsByEmail(request.getEmail())) {
-            throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
-        }
-        
-        if (memberRepository.existsByPhone(request.getPhone())) {
-            throw new BusinessException(ErrorCode.DUPLICATE_PHONE);
-        }
-        
-        // 회원 생성
+        // 회원 생성 - 아이디/이메일/휴대폰 중복은 DB 제약으로 판별 (INSERT 1회)
         OnecarMember member = OnecarMember.builder()
                 .id(request.getId())
                 .password(passwordEncoder.encode(request.getPassword()))
@@ -65,18 +61,18 @@ public class AuthService {
                 .phone(request.getPhone())
                 .build();
         
-        memberRepository.save(member);
-        memberRepository.flush(); // 즉시 DB에 반영
-        
-        // 자동 로그인 처리 - 저장된 사용자 정보로 Authentication 생성
-        OnecarMember savedMember = memberRepository.findByIdAndIsActiveTrue(request.getId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        try {
+            memberRepository.saveAndFlush(member); // 즉시 DB에 반영
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(resolveSignUpDuplicate(e));
+        }
         
+        // 자동 로그인 처리 - 저장한 엔티티로 Authentication 생성 (재조회 없음)
         Authentication authentication = new UsernamePasswordAuthenticationToken(
-                savedMember, null, savedMember.getAuthorities());
+                member, null, member.getAuthorities());
         
-        // 토큰 생성 및 저장
-        return createTokenResponse(authentication);
+        // 토큰 생성 및 저장 (신규 회원은 KFTC 연동 정보가 없음)
+        return createTokenResponse(authentication, false);
     }
     
     @Transactional
@@ -88,26 +84,27 @@ public class AuthService {
         );
         
         // 기존 토큰 무효화
-        tokenRepository.revokeAllTokensByMemberId(request.getId());
+        revokeAllTokens(request.getId());
         
         // 새 토큰 생성 및 저장
-        return createTokenResponse(authentication);
+        return createTokenResponse(authentication, true);
     }
     
     @Transactional
     public void signOut(String accessToken) {
-        OnecarToken token = tokenRepository.findByAccessTokenAndIsRevokedFalse(accessToken)
+        OnecarToken token = tokenRepository.findActiveByAccessToken(accessToken)
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_TOKEN));
         
         token.revoke();
         tokenRepository.save(token);
+        revocationRegistry.revoke(token);
         
         log.info("로그아웃 완료 - memberId: {}", token.getMemberId());
     }
     
     @Transactional
     public AuthResponse refreshToken(String refreshToken) {
-        OnecarToken token = tokenRepository.findByRefreshTokenAndIsRevokedFalse(refreshToken)
+        OnecarToken token = tokenRepository.findActiveByRefreshToken(refreshToken)
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_TOKEN));
         
         if (token.isRefreshTokenExpired()) {
@@ -123,8 +120,9 @@ public class AuthService {
         // 기존 토큰 무효화
         token.revoke();
         tokenRepository.save(token);
+        revocationRegistry.revoke(token);
         
-        return createTokenResponse(authentication);
+        return createTokenResponse(authentication, true);
     }
     
     @Transactional
@@ -150,33 +148,25 @@ public class AuthService {
                 .build();
         
         kftcTokenRepository.save(kftcToken);
+        kftcCredentialCache.invalidate(memberId);
+        kftcResponseCache.invalidateMember(memberId);
         
         log.info("KFTC 토큰 정보 저장 완료 - memberId: {}, userSeqNo: {}", memberId, userSeqNo);
     }
     
     public String getUserSeqNoByAccessToken(String accessToken) {
-        OnecarToken token = tokenRepository.findByAccessTokenAndIsRevokedFalse(accessToken)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_TOKEN));
+        String memberId = resolveMemberIdFromAccessToken(accessToken);
         
-        if (token.isExpired()) {
-            throw new BusinessException(ErrorCode.EXPIRED_TOKEN);
-        }
-        
-        KftcToken kftcToken = kftcTokenRepository.findByMemberId(token.getMemberId())
+        KftcToken kftcToken = kftcCredentialCache.get(memberId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_SEQ_NO_NOT_FOUND));
         
         return kftcToken.getUserSeqNo();
     }
     
     public String getKftcAccessTokenByOnecarToken(String onecarAccessToken) {
-        OnecarToken token = tokenRepository.findByAccessTokenAndIsRevokedFalse(onecarAccessToken)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_TOKEN));
+        String memberId = resolveMemberIdFromAccessToken(onecarAccessToken);
         
-        if (token.isExpired()) {
-            throw new BusinessException(ErrorCode.EXPIRED_TOKEN);
-        }
-        
-        KftcToken kftcToken = kftcTokenRepository.findByMemberId(token.getMemberId())
+        KftcToken kftcToken = kftcCredentialCache.get(memberId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.EXPIRED_TOKEN));
         
         if (kftcToken.isExpired()) {
@@ -187,28 +177,35 @@ public class AuthService {
     }
     
     public KftcToken getKftcTokenByOnecarToken(String onecarAccessToken) {
-        OnecarToken token = tokenRepository.findByAccessTokenAndIsRevokedFalse(onecarAccessToken)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_TOKEN));
+        String memberId = resolveMemberIdFromAccessToken(onecarAccessToken);
         
-        if (token.isExpired()) {
-            throw new BusinessException(ErrorCode.EXPIRED_TOKEN);
-        }
-        
-        KftcToken kftcToken = kftcTokenRepository.findByMemberId(token.getMemberId())
+        return kftcCredentialCache.get(memberId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.EXPIRED_TOKEN));
-        
-        return kftcToken;
     }
     
     public String getMemberIdByAccessToken(String accessToken) {
-        OnecarToken token = tokenRepository.findByAccessTokenAndIsRevokedFalse(accessToken)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_TOKEN));
-        
-        if (token.isExpired()) {
+        return resolveMemberIdFromAccessToken(accessToken);
+    }
+    
+    /**
+     * onecar_token 조회 없이 서명 검증(클레임 캐시)과 폐기 목록으로 access token 확인.
+     * 폐기된 토큰은 TokenRevocationRegistry에 만료 시각까지 남아 있으므로 DB 조회와 결과가 같다.
+     */
+    private String resolveMemberIdFromAccessToken(String accessToken) {
+        JwtClaims claims;
+        try {
+            claims = jwtTokenProvider.parseAndVerify(accessToken);
+        } catch (ExpiredJwtException e) {
             throw new BusinessException(ErrorCode.EXPIRED_TOKEN);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
         }
         
-        return token.getMemberId();
+        if (!claims.isAccessToken() || revocationRegistry.isRevoked(claims.getTokenHash())) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+        
+        return claims.getSubject();
     }
     
     public boolean checkIdAvailability(String id) {
@@ -221,7 +218,28 @@ public class AuthService {
         }
     }
     
-    private AuthResponse createTokenResponse(Authentication authentication) {
+    private void revokeAllTokens(String memberId) {
+        // 아직 만료되지 않은 access token은 필터에서 바로 거부되도록 폐기 목록에 등록
+        tokenRepository.findByMemberIdAndIsRevokedFalseAndAccessTokenExpiresAtAfter(memberId, LocalDateTime.now())
+                .forEach(revocationRegistry::revoke);
+        tokenRepository.revokeAllTokensByMemberId(memberId);
+    }
+    
+    private ErrorCode resolveSignUpDuplicate(DataIntegrityViolationException e) {
+        if (!DataIntegrityUtil.isUniqueViolation(e)) {
+            throw e;
+        }
+        if (DataIntegrityUtil.violates(e, OnecarMember.EMAIL_CONSTRAINT)) {
+            return ErrorCode.DUPLICATE_EMAIL;
+        }
+        if (DataIntegrityUtil.violates(e, OnecarMember.PHONE_CONSTRAINT)) {
+            return ErrorCode.DUPLICATE_PHONE;
+        }
+        // 나머지 유니크 제약은 PK(id)뿐
+        return ErrorCode.DUPLICATE_USER_ID;
+    }
+    
+    private AuthResponse createTokenResponse(Authentication authentication, boolean lookupUserSeqNo) {
         OnecarMember member = (OnecarMember) authentication.getPrincipal();
         
         String accessToken = jwtTokenProvider.createAccessToken(authentication);
@@ -244,13 +262,15 @@ public class AuthService {
         
         // KFTC 토큰에서 userSeqNo 조회
         String userSeqNo = null;
-        try {
-            KftcToken kftcToken = kftcTokenRepository.findByMemberId(member.getId()).orElse(null);
-            if (kftcToken != null) {
-                userSeqNo = kftcToken.getUserSeqNo();
+        if (lookupUserSeqNo) {
+            try {
+                KftcToken kftcToken = kftcCredentialCache.get(member.getId()).orElse(null);
+                if (kftcToken != null) {
+                    userSeqNo = kftcToken.getUserSeqNo();
+                }
+            } catch (Exception e) {
+                log.debug("KFTC 토큰 조회 실패 (정상적인 경우일 수 있음): {}", e.getMessage());
             }
-        } catch (Exception e) {
-            log.debug("KFTC 토큰 조회 실패 (정상적인 경우일 수 있음): {}", e.getMessage());
         }
         
         // 응답 생성
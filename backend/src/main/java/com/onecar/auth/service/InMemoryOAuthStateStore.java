@@ -0,0 +1,86 @@
+package com.onecar.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.onecar.auth.dto.OAuthState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 저장소. OAuth 리디렉트 흐름에서 DB 왕복이 없지만 노드 간 공유되지 않으므로
+ * 단일 노드(또는 sticky session) 배포에서만 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "oauth.state-store.type", havingValue = "memory")
+public class InMemoryOAuthStateStore implements OAuthStateStore {
+
+    private final Cache<String, OAuthState> states;
+
+    // 회원별 현재 유효한 state (새 state 발급 시 이전 state 무효화용)
+    private final Map<String, String> stateByMember = new ConcurrentHashMap<>();
+
+    public InMemoryOAuthStateStore(@Value("${oauth.state-store.maximum-size:10000}") long maximumSize) {
+        this.states = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new StateExpiry())
+                .removalListener((String state, OAuthState value, RemovalCause cause) -> {
+                    if (value != null) {
+                        stateByMember.remove(value.getMemberId(), state);
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public void save(OAuthState state) {
+        String previous = stateByMember.put(state.getMemberId(), state.getState());
+        if (previous != null) {
+            states.invalidate(previous);
+        }
+        states.put(state.getState(), state);
+    }
+
+    @Override
+    public Optional<OAuthState> consume(String state) {
+        // remove는 원자적이므로 동시 요청 중 하나만 값을 받는다
+        OAuthState removed = states.asMap().remove(state);
+        if (removed != null) {
+            stateByMember.remove(removed.getMemberId(), state);
+        }
+        return Optional.ofNullable(removed);
+    }
+
+    @Override
+    public int purgeExpired() {
+        long before = states.estimatedSize();
+        states.cleanUp();
+        return (int) Math.max(before - states.estimatedSize(), 0);
+    }
+
+    private static class StateExpiry implements Expiry<String, OAuthState> {
+
+        @Override
+        public long expireAfterCreate(String key, OAuthState value, long currentTime) {
+            return Math.max(Duration.between(LocalDateTime.now(), value.getExpiresAt()).toNanos(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, OAuthState value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, OAuthState value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.onecar.auth.service;
+
+import com.onecar.auth.dto.OAuthState;
+import com.onecar.auth.entity.OAuthSession;
+import com.onecar.auth.repository.OAuthSessionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * oauth_session 테이블 기반 저장소 (다중 노드 공유)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "oauth.state-store.type", havingValue = "jpa", matchIfMissing = true)
+public class JpaOAuthStateStore implements OAuthStateStore {
+
+    private final OAuthSessionRepository oAuthSessionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${oauth.session-cleanup.batch-size:500}")
+    private int cleanupBatchSize;
+
+    @Override
+    @Transactional
+    public void save(OAuthState state) {
+        oAuthSessionRepository.completeOpenSessionsByMemberId(state.getMemberId());
+        oAuthSessionRepository.save(OAuthSession.builder()
+                .sessionId(state.getSessionId())
+                .memberId(state.getMemberId())
+                .state(state.getState())
+                .expiresAt(state.getExpiresAt())
+                .isCompleted(false)
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public Optional<OAuthState> consume(String state) {
+        return oAuthSessionRepository.findByStateAndIsCompletedFalse(state)
+                // 조건부 UPDATE로 동시 요청 중 하나만 성공
+                .filter(session -> oAuthSessionRepository.completeByState(state) == 1)
+                .map(session -> OAuthState.builder()
+                        .sessionId(session.getSessionId())
+                        .state(session.getState())
+                        .memberId(session.getMemberId())
+                        .expiresAt(session.getExpiresAt())
+                        .build());
+    }
+
+    /**
+     * 만료된 세션을 배치 단위로 삭제 (배치마다 별도 트랜잭션)
+     */
+    @Override
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = 0;
+
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> ids = oAuthSessionRepository.findExpiredSessionIds(
+                        now, PageRequest.of(0, cleanupBatchSize));
+                return ids.isEmpty() ? 0 : oAuthSessionRepository.deleteAllByIdIn(ids);
+            });
+
+            if (count == null || count == 0) {
+                break;
+            }
+            deleted += count;
+
+            if (count < cleanupBatchSize) {
+                break;
+            }
+        }
+
+        return deleted;
+    }
+}
@@ -0,0 +1,125 @@
+package com.onecar.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.onecar.auth.entity.KftcToken;
+import com.onecar.auth.repository.KftcTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원별 KFTC 토큰 캐시 (key: memberId).
+ * 토큰 만료 직전(expiry-margin)까지 보관하되 다른 노드의 변경이 반영되도록 최대 TTL을 둔다.
+ * 적중/실패 통계는 cache.gets{cache=kftcCredential} 로 노출된다.
+ */
+@Component
+public class KftcCredentialCache {
+
+    private final KftcTokenRepository kftcTokenRepository;
+    private final Cache<String, KftcToken> cache;
+    // 무효화 세대: 락 밖에서 조회하는 동안 무효화가 있었으면 조회한 토큰을 캐시에 남기지 않는다
+    private final AtomicLong invalidationGeneration = new AtomicLong();
+
+    public KftcCredentialCache(
+            KftcTokenRepository kftcTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${auth.kftc-credential-cache.maximum-size:10000}") long maximumSize,
+            @Value("${auth.kftc-credential-cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${auth.kftc-credential-cache.expiry-margin-seconds:60}") long expiryMarginSeconds) {
+
+        this.kftcTokenRepository = kftcTokenRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new CredentialExpiry(Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(expiryMarginSeconds)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "kftcCredential");
+    }
+
+    /**
+     * 캐시에 없으면 kftc_token 조회 (연동하지 않은 회원은 캐시하지 않는다).
+     * 가상 스레드가 캐리어에 고정되지 않도록 조회는 캐시 락(cache.get(key, loader)) 밖에서 한다.
+     * 조회 중 토큰 갱신으로 무효화되었다면 이전 토큰이 다시 캐시되지 않도록 저장한 값을 제거한다.
+     */
+    public Optional<KftcToken> get(String memberId) {
+        KftcToken cached = cache.getIfPresent(memberId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long generation = invalidationGeneration.get();
+        Optional<KftcToken> loaded = kftcTokenRepository.findByMemberId(memberId);
+        loaded.ifPresent(token -> {
+            cache.asMap().putIfAbsent(memberId, token);
+            if (invalidationGeneration.get() != generation) {
+                cache.asMap().remove(memberId, token);
+            }
+        });
+        return loaded;
+    }
+
+    public void put(KftcToken kftcToken) {
+        cache.put(kftcToken.getMemberId(), kftcToken);
+    }
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 중이면 커밋 전에 다른 요청이 이전 토큰을 다시 캐시하는 경우를 막기 위해 커밋 후 한 번 더 무효화
+     */
+    public void invalidate(String memberId) {
+        invalidationGeneration.incrementAndGet();
+        cache.invalidate(memberId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidationGeneration.incrementAndGet();
+                    cache.invalidate(memberId);
+                }
+            });
+        }
+    }
+
+    private static class CredentialExpiry implements Expiry<String, KftcToken> {
+
+        private final Duration maxTtl;
+        private final Duration expiryMargin;
+
+        private CredentialExpiry(Duration maxTtl, Duration expiryMargin) {
+            this.maxTtl = maxTtl;
+            this.expiryMargin = expiryMargin;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, KftcToken token, long currentTime) {
+            if (token.getExpiresAt() == null) {
+                return maxTtl.toNanos();
+            }
+            Duration untilRefresh = Duration.between(LocalDateTime.now(), token.getExpiresAt().minus(expiryMargin));
+            if (untilRefresh.isNegative()) {
+                return 0;
+            }
+            return Math.min(untilRefresh.toNanos(), maxTtl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, KftcToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, KftcToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.onecar.auth.service;
 
 import com.onecar.auth.dto.KftcTokenResponse;
-import com.onecar.auth.entity.OAuthSession;
+import com.onecar.auth.dto.OAuthState;
+import com.onecar.auth.util.TokenHashUtil;
 import com.onecar.common.exception.BusinessException;
 import com.onecar.common.exception.ErrorCode;
+import com.onecar.common.util.KftcResilience;
+import com.onecar.common.util.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,6 +16,8 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @Slf4j
 @Service
@@ -22,6 +27,9 @@ public class KftcOAuthService {
     private final WebClient webClient;
     private final AuthService authService;
     private final OAuthSessionService oAuthSessionService;
+    private final Scheduler blockingScheduler;
+    private final KftcResilience kftcResilience;
+    private final SingleFlight<String, String> codeExchangeFlight = new SingleFlight<>();
 
     @Value("${oauth.client.client-id}")
     private String kftcClientId;
@@ -36,93 +44,108 @@ public class KftcOAuthService {
     private String kftcBaseUrl;
 
     public void processKftcOAuthCallback(String code, String accessToken) {
+        processKftcOAuthCallbackAsync(code, accessToken).block();
+    }
+
+    public String processKftcOAuthRedirectCallback(String code, String state) {
+        return processKftcOAuthRedirectCallbackAsync(code, state).block();
+    }
+
+    /**
+     * DB 작업은 블로킹 스케줄러에서, KFTC 토큰 요청은 논블로킹으로 처리한다.
+     */
+    public Mono<Void> processKftcOAuthCallbackAsync(String code, String accessToken) {
+        // 같은 회원(access token)이 같은 인가 코드로 보낸 중복 요청(더블 클릭 등)만 한 번 교환하고 결과를 공유
+        // (다른 회원이 같은 코드를 보내면 합치지 않으므로 다른 계정의 연동 결과를 받지 않는다)
+        String flightKey = "callback|" + code + "|" + TokenHashUtil.sha256Hex(accessToken);
+        return codeExchangeFlight.execute(flightKey, () -> linkKftcAccount(code, accessToken)).then();
+    }
+
+    /**
+     * @return 연동된 OneCard 회원 ID
+     */
+    public Mono<String> processKftcOAuthRedirectCallbackAsync(String code, String state) {
+        // state가 회원 세션을 가리키므로 같은 코드 + 같은 state인 중복 요청만 합친다
+        return codeExchangeFlight.execute("redirect|" + code + "|" + state, () -> linkKftcAccountByState(code, state));
+    }
+
+    private Mono<String> linkKftcAccount(String code, String accessToken) {
         log.info("=== OneCard KFTC OAuth 콜백 처리 시작 ===");
         log.info("Authorization Code: {}", code.substring(0, Math.min(code.length(), 20)) + "...");
         log.info("OneCard Access Token: {}", accessToken.substring(0, Math.min(accessToken.length(), 20)) + "...");
 
-        try {
-            // 1. KFTC에서 토큰 받아오기 (application-local.yml의 설정 사용)
-            log.info("1단계: KFTC 토큰 요청 시작");
-            KftcTokenResponse tokenResponse = getTokenFromKftc(code);
-            log.info("1단계: KFTC 토큰 응답 수신 완료");
-            log.info("KFTC에서 받은 user_seq_no: {}", tokenResponse.getUserSeqNo());
-            log.info("KFTC에서 받은 user_name: {}", tokenResponse.getUserName());
-
-            // 2. 현재 사용자 식별
-            log.info("2단계: OneCard 사용자 식별 시작");
-            String memberId = authService.getMemberIdByAccessToken(accessToken);
-            log.info("2단계: OneCard 회원 ID: {}", memberId);
-
-            // 3. user_seq_no 업데이트
-            log.info("3단계: user_seq_no 및 token 저장 시작");
-            authService.saveKftcTokenInfo(
-                    memberId,
-                    tokenResponse.getUserSeqNo(),
-                    tokenResponse.getAccessToken(),
-                    tokenResponse.getRefreshToken(),
-                    tokenResponse.getTokenType(),
-                    tokenResponse.getExpiresIn(),
-                    tokenResponse.getScope()
-            );
-            log.info("3단계: user_seq_no 및 token 저장 완료");
-
-            log.info("=== KFTC OAuth 연동 완료 ===");
-            log.info("OneCard 회원 ID: {}, KFTC user_seq_no: {}", memberId, tokenResponse.getUserSeqNo());
-
-        } catch (Exception e) {
-            log.error("KFTC OAuth 연동 실패 - code: {}, error: {}", code, e.getMessage(), e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
+        // 1. KFTC에서 토큰 받아오기 (application-local.yml의 설정 사용)
+        log.info("1단계: KFTC 토큰 요청 시작");
+        return requestTokenFromKftc(code)
+                .publishOn(blockingScheduler)
+                .map(tokenResponse -> {
+                    log.info("1단계: KFTC 토큰 응답 수신 완료");
+                    log.info("KFTC에서 받은 user_seq_no: {}", tokenResponse.getUserSeqNo());
+                    log.info("KFTC에서 받은 user_name: {}", tokenResponse.getUserName());
+
+                    // 2. 현재 사용자 식별
+                    log.info("2단계: OneCard 사용자 식별 시작");
+                    String memberId = authService.getMemberIdByAccessToken(accessToken);
+                    log.info("2단계: OneCard 회원 ID: {}", memberId);
+
+                    // 3. user_seq_no 업데이트
+                    saveTokenInfo(memberId, tokenResponse);
+                    return memberId;
+                })
+                .doOnError(e -> log.error("KFTC OAuth 연동 실패 - code: {}, error: {}", code, e.getMessage(), e))
+                .onErrorMap(e -> !(e instanceof BusinessException), e -> new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR));
     }
 
-    public String processKftcOAuthRedirectCallback(String code, String state) {
+    private Mono<String> linkKftcAccountByState(String code, String state) {
         log.info("=== OneCard KFTC OAuth 리디렉트 콜백 처리 시작 ===");
         log.info("Authorization Code: {}", code.substring(0, Math.min(code.length(), 20)) + "...");
         log.info("State: {}", state);
 
-        try {
-            // 1. 세션 검증 및 사용자 식별
-            log.info("1단계: OAuth 세션 검증 시작");
-            OAuthSession session = oAuthSessionService.findAndValidateSession(state);
-            String memberId = session.getMemberId();
-            log.info("1단계: OAuth 세션 검증 완료 - memberId: {}", memberId);
-
-            // 2. KFTC에서 토큰 받아오기
-            log.info("2단계: KFTC 토큰 요청 시작");
-            KftcTokenResponse tokenResponse = getTokenFromKftc(code);
-            log.info("2단계: KFTC 토큰 응답 수신 완료");
-            log.info("KFTC에서 받은 user_seq_no: {}", tokenResponse.getUserSeqNo());
-            log.info("KFTC에서 받은 user_name: {}", tokenResponse.getUserName());
-
-             // 3. user_seq_no 업데이트
-            log.info("3단계: user_seq_no 및 token 저장 시작");
-            authService.saveKftcTokenInfo(
-                    memberId,
-                    tokenResponse.getUserSeqNo(),
-                    tokenResponse.getAccessToken(),
-                    tokenResponse.getRefreshToken(),
-                    tokenResponse.getTokenType(),
-                    tokenResponse.getExpiresIn(),
-                    tokenResponse.getScope()
-            );
-            log.info("3단계: user_seq_no 및 token 저장 완료");
-
-            // 4. 세션 완료 처리
-            log.info("4단계: OAuth 세션 완료 처리");
-            oAuthSessionService.completeSession(state);
-
-            log.info("=== KFTC OAuth 연동 완료 ===");
-            log.info("OneCard 회원 ID: {}, KFTC user_seq_no: {}", memberId, tokenResponse.getUserSeqNo());
-
-            return memberId;
-
-        } catch (Exception e) {
-            log.error("KFTC OAuth 연동 실패 - code: {}, state: {}, error: {}", code, state, e.getMessage(), e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
+        // 1. 세션 검증 및 사용자 식별 (state는 여기서 소비되어 재사용 불가)
+        return Mono.fromCallable(() -> {
+                    log.info("1단계: OAuth 세션 검증 시작");
+                    OAuthState session = oAuthSessionService.consumeSession(state);
+                    log.info("1단계: OAuth 세션 검증 완료 - memberId: {}", session.getMemberId());
+                    return session.getMemberId();
+                })
+                .subscribeOn(blockingScheduler)
+                // 2. KFTC에서 토큰 받아오기
+                .flatMap(memberId -> {
+                    log.info("2단계: KFTC 토큰 요청 시작");
+                    return requestTokenFromKftc(code)
+                            .publishOn(blockingScheduler)
+                            .map(tokenResponse -> {
+                                log.info("2단계: KFTC 토큰 응답 수신 완료");
+                                log.info("KFTC에서 받은 user_seq_no: {}", tokenResponse.getUserSeqNo());
+                                log.info("KFTC에서 받은 user_name: {}", tokenResponse.getUserName());
+
+                                // 3. user_seq_no 업데이트
+                                saveTokenInfo(memberId, tokenResponse);
+                                return memberId;
+                            });
+                })
+                .doOnError(e -> log.error("KFTC OAuth 연동 실패 - code: {}, state: {}, error: {}", code, state, e.getMessage(), e))
+                .onErrorMap(e -> !(e instanceof BusinessException), e -> new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR));
+    }
+
+    private void saveTokenInfo(String memberId, KftcTokenResponse tokenResponse) {
+        log.info("3단계: user_seq_no 및 token 저장 시작");
+        authService.saveKftcTokenInfo(
+                memberId,
+                tokenResponse.getUserSeqNo(),
+                tokenResponse.getAccessToken(),
+                tokenResponse.getRefreshToken(),
+                tokenResponse.getTokenType(),
+                tokenResponse.getExpiresIn(),
+                tokenResponse.getScope()
+        );
+        log.info("3단계: user_seq_no 및 token 저장 완료");
+
+        log.info("=== KFTC OAuth 연동 완료 ===");
+        log.info("OneCard 회원 ID: {}, KFTC user_seq_no: {}", memberId, tokenResponse.getUserSeqNo());
     }
 
-    private KftcTokenResponse getTokenFromKftc(String code) {
+    private Mono<KftcTokenResponse> requestTokenFromKftc(String code) {
         log.info("=== KFTC 토큰 요청 시작 ===");
         log.info("Authorization Code: {}", code.substring(0, Math.min(code.length(), 20)) + "...");
         log.info("Client ID: {}", kftcClientId);
@@ -140,12 +163,13 @@ public class KftcOAuthService {
 
         log.info("KFTC 토큰 엔드포인트 호출: {}", kftcBaseUrl + "/oauth/2.0/token");
 
-        return webClient.post()
-                .uri(kftcBaseUrl + "/oauth/2.0/token")
-                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                .body(BodyInserters.fromFormData(formData))
-                .retrieve()
-                .bodyToMono(KftcTokenResponse.class)
+        // 인가 코드는 1회용이므로 재시도하지 않는다
+        return kftcResilience.protect(webClient.post()
+                        .uri(kftcBaseUrl + "/oauth/2.0/token")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .body(BodyInserters.fromFormData(formData))
+                        .retrieve()
+                        .bodyToMono(KftcTokenResponse.class), false)
                 .doOnSuccess(response -> {
                     if (response != null) {
                         log.info("=== KFTC 토큰 응답 성공 ===");
@@ -160,9 +184,7 @@ public class KftcOAuthService {
                         log.error("KFTC 토큰 응답이 null입니다!");
                     }
                 })
-                .doOnError(error -> log.error("KFTC 토큰 요청 실패: {}", error.getMessage(), error))
-                .onErrorMap(ex -> new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR))
-                .block();
+                .doOnError(error -> log.error("KFTC 토큰 요청 실패: {}", error.getMessage(), error));
     }
 
 
@@ -0,0 +1,178 @@
+package com.onecar.auth.service;
+
+import com.onecar.auth.dto.KftcTokenResponse;
+import com.onecar.auth.entity.KftcToken;
+import com.onecar.auth.repository.KftcTokenRepository;
+import com.onecar.common.util.KftcResilience;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 만료가 가까운 KFTC 토큰을 refresh_token 으로 미리 갱신하여 사용자 요청 경로에서 만료가 발생하지 않게 한다.
+ * id keyset 배치로 조회하고, 배치 안에서는 동시 요청 수를 제한해 KFTC 토큰 엔드포인트를 호출한다.
+ * 여러 노드에서 동시에 갱신하지 않도록 한 노드에서만 활성화한다 (oauth.token-refresh.enabled).
+ * 갱신에 실패한 토큰은 실패 횟수에 따라 다음 시도를 미루고, refresh token 유효 기간이 지난 토큰은 조회하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "oauth.token-refresh.enabled", havingValue = "true", matchIfMissing = true)
+public class KftcTokenRefreshScheduler {
+
+    private final WebClient webClient;
+    private final KftcTokenRepository kftcTokenRepository;
+    private final KftcCredentialCache kftcCredentialCache;
+    private final KftcResilience kftcResilience;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${oauth.client.client-id}")
+    private String kftcClientId;
+
+    @Value("${oauth.client.client-secret}")
+    private String kftcClientSecret;
+
+    @Value("${openbanking.base-url}")
+    private String kftcBaseUrl;
+
+    @Value("${oauth.token-refresh.refresh-ahead-hours:24}")
+    private long refreshAheadHours;
+
+    @Value("${oauth.token-refresh.batch-size:100}")
+    private int batchSize;
+
+    @Value("${oauth.token-refresh.concurrency:4}")
+    private int concurrency;
+
+    @Value("${oauth.token-refresh.interval-ms:600000}")
+    private long intervalMillis;
+
+    // KFTC refresh token은 access token 만료 후 이 기간까지만 유효
+    @Value("${oauth.token-refresh.refresh-token-validity-days:10}")
+    private long refreshTokenValidityDays;
+
+    @Value("${oauth.token-refresh.failure-backoff-max-hours:24}")
+    private long failureBackoffMaxHours;
+
+    @Scheduled(fixedDelayString = "${oauth.token-refresh.interval-ms:600000}")
+    public void refreshExpiringTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime threshold = now.plusHours(refreshAheadHours);
+        LocalDateTime refreshableAfter = now.minusDays(refreshTokenValidityDays);
+        AtomicInteger refreshed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long lastId = 0L;
+
+        try {
+            while (true) {
+                List<KftcToken> tokens = kftcTokenRepository.findRefreshBatch(
+                        lastId, threshold, refreshableAfter, now, PageRequest.of(0, batchSize));
+                if (tokens.isEmpty()) {
+                    break;
+                }
+
+                Flux.fromIterable(tokens)
+                        .flatMap(token -> refresh(token)
+                                .doOnSuccess(updated -> {
+                                    if (Boolean.TRUE.equals(updated)) {
+                                        refreshed.incrementAndGet();
+                                    }
+                                })
+                                .onErrorResume(e -> {
+                                    failed.incrementAndGet();
+                                    log.warn("KFTC 토큰 갱신 실패 - memberId: {}, error: {}",
+                                            token.getMemberId(), e.getMessage());
+                                    return Mono.fromRunnable(() -> recordRefreshFailure(token))
+                                            .subscribeOn(Schedulers.boundedElastic())
+                                            .onErrorResume(recordError -> {
+                                                log.warn("KFTC 토큰 갱신 실패 기록 실패 - memberId: {}, error: {}",
+                                                        token.getMemberId(), recordError.getMessage());
+                                                return Mono.empty();
+                                            })
+                                            .then(Mono.<Boolean>empty());
+                                }), concurrency)
+                        .then()
+                        .block();
+
+                lastId = tokens.get(tokens.size() - 1).getId();
+                if (tokens.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("KFTC 토큰 갱신 작업 실패 - lastId: {}, error: {}", lastId, e.getMessage(), e);
+        }
+
+        if (refreshed.get() > 0 || failed.get() > 0) {
+            log.info("KFTC 토큰 갱신 - 성공: {}건, 실패: {}건", refreshed.get(), failed.get());
+        }
+    }
+
+    private Mono<Boolean> refresh(KftcToken token) {
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("client_id", kftcClientId);
+        formData.add("client_secret", kftcClientSecret);
+        formData.add("refresh_token", token.getRefreshToken());
+        formData.add("scope", token.getScope());
+        formData.add("grant_type", "refresh_token");
+
+        return kftcResilience.protect(webClient.post()
+                        .uri(kftcBaseUrl + "/oauth/2.0/token")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .body(BodyInserters.fromFormData(formData))
+                        .retrieve()
+                        .bodyToMono(KftcTokenResponse.class), false)
+                // JPA 작업은 블로킹이므로 Netty 이벤트 루프 밖에서 실행
+                .publishOn(Schedulers.boundedElastic())
+                .map(response -> saveRefreshedToken(token, response));
+    }
+
+    /**
+     * 조회 후 사용자가 재연동한 경우(refresh token 변경)는 덮어쓰지 않는다.
+     */
+    private boolean saveRefreshedToken(KftcToken token, KftcTokenResponse response) {
+        Boolean updated = transactionTemplate.execute(status -> kftcTokenRepository.findById(token.getId())
+                .filter(current -> current.getRefreshToken().equals(token.getRefreshToken()))
+                .map(current -> {
+                    current.updateTokenInfo(
+                            response.getAccessToken(),
+                            response.getRefreshToken() != null ? response.getRefreshToken() : current.getRefreshToken(),
+                            response.getTokenType(),
+                            response.getExpiresIn(),
+                            response.getScope() != null ? response.getScope() : current.getScope());
+                    kftcCredentialCache.invalidate(current.getMemberId());
+                    return true;
+                })
+                .orElse(false));
+        return Boolean.TRUE.equals(updated);
+    }
+
+    /**
+     * 실패한 토큰은 다음 시도를 갱신 주기 * 2^(실패 횟수 - 1) 뒤로 미룬다 (최대 failure-backoff-max-hours).
+     * 그 사이 재연동으로 refresh token이 바뀐 경우는 기록하지 않는다.
+     */
+    private void recordRefreshFailure(KftcToken token) {
+        transactionTemplate.executeWithoutResult(status -> kftcTokenRepository.findById(token.getId())
+                .filter(current -> current.getRefreshToken().equals(token.getRefreshToken()))
+                .ifPresent(current -> current.recordRefreshFailure(
+                        Duration.ofMillis(intervalMillis), Duration.ofHours(failureBackoffMaxHours))));
+    }
+}
@@ -0,0 +1,101 @@
+package com.onecar.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.onecar.auth.entity.OnecarMember;
+import com.onecar.auth.repository.OnecarMemberRepository;
+import com.onecar.auth.util.JwtClaims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JWT 클레임으로 인증 주체(UserDetails)를 구성한다.
+ * 회원 활성 상태는 TTL 캐시로 확인하여 요청마다 회원 테이블을 조회하지 않는다.
+ */
+@Slf4j
+@Service
+public class MemberPrincipalService {
+
+    private final OnecarMemberRepository memberRepository;
+    private final Cache<String, MemberState> memberStateCache;
+    // 무효화 세대: 락 밖에서 조회하는 동안 무효화가 있었으면 조회 결과를 캐시에 남기지 않는다
+    private final AtomicLong evictionGeneration = new AtomicLong();
+
+    public MemberPrincipalService(
+            OnecarMemberRepository memberRepository,
+            @Value("${auth.member-cache.maximum-size:10000}") long maximumSize,
+            @Value("${auth.member-cache.ttl-seconds:300}") long ttlSeconds) {
+
+        this.memberRepository = memberRepository;
+        this.memberStateCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * @return 비활성/탈퇴 회원이면 null
+     */
+    public UserDetails resolve(JwtClaims claims) {
+        String memberId = claims.getSubject();
+        MemberState state = memberStateCache.getIfPresent(memberId);
+        if (state == null) {
+            // cache.get(key, loader)는 ConcurrentHashMap bin 락 안에서 DB를 조회하므로
+            // 가상 스레드가 캐리어 스레드에 고정(pinning)된다. 락 밖에서 조회 후 저장한다.
+            state = loadAndCache(memberId);
+        }
+
+        if (!state.isActive()) {
+            log.warn("비활성 회원의 토큰 사용 - memberId: {}", memberId);
+            return null;
+        }
+
+        // 역할은 토큰 클레임 우선, 클레임이 없는 이전 토큰은 캐시된 회원 정보 사용
+        String role = claims.getRole() != null ? claims.getRole() : state.getRole();
+
+        return User.withUsername(memberId)
+                .password("")
+                .roles(role)
+                .build();
+    }
+
+    public void evict(String memberId) {
+        evictionGeneration.incrementAndGet();
+        memberStateCache.invalidate(memberId);
+    }
+
+    /**
+     * 조회 중 evict가 끼어들면 비활성화 직전의 상태가 TTL 동안 남을 수 있으므로,
+     * 저장 후 세대가 바뀌었으면 방금 저장한 값을 다시 제거한다.
+     */
+    private MemberState loadAndCache(String memberId) {
+        long generation = evictionGeneration.get();
+        MemberState state = loadMemberState(memberId);
+        memberStateCache.put(memberId, state);
+        if (evictionGeneration.get() != generation) {
+            memberStateCache.asMap().remove(memberId, state);
+        }
+        return state;
+    }
+
+    private MemberState loadMemberState(String memberId) {
+        return memberRepository.findById(memberId)
+                .map(member -> new MemberState(member.getIsActive(), member.getRole().name()))
+                .orElseGet(() -> new MemberState(false, OnecarMember.MemberRole.USER.name()));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class MemberState {
+        private final boolean active;
+        private final String role;
+    }
+}
@@ -1,13 +1,12 @@
 package com.onecar.auth.service;
 
-import com.onecar.auth.entity.OAuthSession;
-import com.onecar.auth.repository.OAuthSessionRepository;
+import com.onecar.auth.dto.OAuthState;
 import com.onecar.common.exception.BusinessException;
 import com.onecar.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -17,43 +16,34 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class OAuthSessionService {
     
-    private final OAuthSessionRepository oAuthSessionRepository;
+    private final OAuthStateStore oAuthStateStore;
     private static final long SESSION_TIMEOUT_MINUTES = 30;
     
-    @Transactional
     public String createOAuthSession(String memberId) {
         log.info("OAuth 세션 생성 시작 - memberId: {}", memberId);
         
-        // 기존 완료되지 않은 세션들 정리
-        oAuthSessionRepository.findByMemberIdAndIsCompletedFalse(memberId)
-                .forEach(session -> {
-                    session.complete();
-                    oAuthSessionRepository.save(session);
-                });
-        
-        // 새로운 세션 생성
         String sessionId = UUID.randomUUID().toString();
         String state = UUID.randomUUID().toString();
         
-        OAuthSession session = OAuthSession.builder()
+        // 같은 회원의 이전 state는 저장소에서 무효화
+        oAuthStateStore.save(OAuthState.builder()
                 .sessionId(sessionId)
                 .memberId(memberId)
                 .state(state)
                 .expiresAt(LocalDateTime.now().plusMinutes(SESSION_TIMEOUT_MINUTES))
-                .isCompleted(false)
-                .build();
-        
-        oAuthSessionRepository.save(session);
+                .build());
         
         log.info("OAuth 세션 생성 완료 - sessionId: {}, state: {}", sessionId, state);
         return state;
     }
     
-    @Transactional
-    public OAuthSession findAndValidateSession(String state) {
-        log.info("OAuth 세션 조회 및 검증 - state: {}", state);
+    /**
+     * state 검증과 완료 처리를 한 번에 수행 (같은 state는 한 번만 사용 가능)
+     */
+    public OAuthState consumeSession(String state) {
+        log.info("OAuth 세션 검증 및 완료 처리 - state: {}", state);
         
-        OAuthSession session = oAuthSessionRepository.findByStateAndIsCompletedFalse(state)
+        OAuthState session = oAuthStateStore.consume(state)
                 .orElseThrow(() -> {
                     log.error("유효하지 않은 OAuth state: {}", state);
                     return new BusinessException(ErrorCode.INVALID_TOKEN);
@@ -68,29 +58,15 @@ public class OAuthSessionService {
         return session;
     }
     
-    @Transactional
-    public void completeSession(String state) {
-        log.info("OAuth 세션 완료 처리 - state: {}", state);
-        
-        OAuthSession session = oAuthSessionRepository.findByStateAndIsCompletedFalse(state)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_TOKEN));
-        
-        session.complete();
-        oAuthSessionRepository.save(session);
-        
-        log.info("OAuth 세션 완료 - memberId: {}", session.getMemberId());
-    }
-    
-    @Transactional
+    @Scheduled(fixedDelayString = "${oauth.session-cleanup.interval-ms:300000}")
     public void cleanupExpiredSessions() {
-        log.info("만료된 OAuth 세션 정리 시작");
-        
-        oAuthSessionRepository.findExpiredSessions(LocalDateTime.now())
-                .forEach(session -> {
-                    session.complete();
-                    oAuthSessionRepository.save(session);
-                });
-        
-        log.info("만료된 OAuth 세션 정리 완료");
+        try {
+            int deleted = oAuthStateStore.purgeExpired();
+            if (deleted > 0) {
+                log.info("만료된 OAuth 세션 정리 완료 - {}건 삭제", deleted);
+            }
+        } catch (Exception e) {
+            log.error("만료된 OAuth 세션 정리 실패 - error: {}", e.getMessage(), e);
+        }
     }
-} 
\ No newline at end of file
+}
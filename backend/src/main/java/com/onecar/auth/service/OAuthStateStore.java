@@ -0,0 +1,26 @@
+package com.onecar.auth.service;
+
+import com.onecar.auth.dto.OAuthState;
+
+import java.util.Optional;
+
+/**
+ * OAuth state 저장소. oauth.state-store.type 으로 구현 선택 (jpa: 기본, memory: 단일 노드용)
+ */
+public interface OAuthStateStore {
+
+    /**
+     * 새 state 저장. 같은 회원의 완료되지 않은 이전 state는 더 이상 사용할 수 없다.
+     */
+    void save(OAuthState state);
+
+    /**
+     * state를 한 번만 꺼낸다. 이미 사용했거나 없는 state면 empty.
+     */
+    Optional<OAuthState> consume(String state);
+
+    /**
+     * @return 정리한 state 수
+     */
+    int purgeExpired();
+}
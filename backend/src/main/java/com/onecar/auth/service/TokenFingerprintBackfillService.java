@@ -0,0 +1,82 @@
+package com.onecar.auth.service;
+
+import com.onecar.auth.entity.OnecarToken;
+import com.onecar.auth.repository.OnecarTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 지문 컬럼 도입 이전에 발급된 onecar_token 행의 access/refresh 토큰 지문을 채운다.
+ * id 기준 keyset 페이지 단위로 배치마다 별도 트랜잭션을 사용한다.
+ */
+@Slf4j
+@Service
+public class TokenFingerprintBackfillService {
+
+    private final OnecarTokenRepository tokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public TokenFingerprintBackfillService(
+            OnecarTokenRepository tokenRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${auth.token-fingerprint.backfill-enabled:true}") boolean enabled,
+            @Value("${auth.token-fingerprint.backfill-batch-size:500}") int batchSize) {
+
+        this.tokenRepository = tokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+
+        long lastId = 0L;
+        long updated = 0L;
+
+        try {
+            while (true) {
+                long fromId = lastId;
+                List<OnecarToken> batch = transactionTemplate.execute(status -> {
+                    List<OnecarToken> tokens = tokenRepository.findFingerprintBackfillBatch(
+                            fromId, PageRequest.of(0, batchSize));
+                    // 변경 감지로 커밋 시 UPDATE
+                    tokens.forEach(OnecarToken::assignFingerprints);
+                    return tokens;
+                });
+
+                if (batch == null || batch.isEmpty()) {
+                    break;
+                }
+
+                updated += batch.size();
+                lastId = batch.get(batch.size() - 1).getId();
+
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            // 실패해도 서비스는 계속 동작, 다음 기동 시 이어서 처리
+            log.error("onecar_token 지문 백필 실패 - lastId: {}, error: {}", lastId, e.getMessage(), e);
+            return;
+        }
+
+        if (updated > 0) {
+            log.info("onecar_token 지문 백필 완료 - 처리 건수: {}", updated);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.onecar.auth.service;
+
+import com.onecar.auth.repository.OnecarTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * onecar_token 보존 정책: refresh token이 만료된 행과 폐기 후 유예 기간이 지난 행을 삭제한다.
+ * id keyset 배치 단위로 배치마다 짧은 트랜잭션을 사용하고, 실행 시간 한도를 넘으면 다음 주기로 넘긴다.
+ */
+@Slf4j
+@Service
+public class TokenRetentionService {
+
+    private final OnecarTokenRepository tokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter purgedCounter;
+    private final Timer purgeTimer;
+
+    @Value("${auth.token-retention.batch-size:500}")
+    private int batchSize;
+
+    @Value("${auth.token-retention.max-duration-seconds:30}")
+    private long maxDurationSeconds;
+
+    @Value("${auth.token-retention.revoked-grace-hours:24}")
+    private long revokedGraceHours;
+
+    public TokenRetentionService(OnecarTokenRepository tokenRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.tokenRepository = tokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.purgedCounter = Counter.builder("auth.token.purge.rows")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("auth.token.purge.duration")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${auth.token-retention.cron:0 */10 * * * *}")
+    public void purgeExpiredTokens() {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + Duration.ofSeconds(maxDurationSeconds).toNanos();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime revokedBefore = now.minusHours(revokedGraceHours);
+
+        long lastId = 0L;
+        long purged = 0L;
+        boolean timedOut = false;
+
+        try {
+            while (true) {
+                if (System.nanoTime() > deadline) {
+                    timedOut = true;
+                    break;
+                }
+
+                long fromId = lastId;
+                List<Long> ids = transactionTemplate.execute(status -> {
+                    List<Long> candidates = tokenRepository.findPurgeCandidateIds(
+                            fromId, now, revokedBefore, PageRequest.of(0, batchSize));
+                    if (!candidates.isEmpty()) {
+                        tokenRepository.deleteAllByIdIn(candidates);
+                    }
+                    return candidates;
+                });
+
+                if (ids == null || ids.isEmpty()) {
+                    break;
+                }
+
+                purged += ids.size();
+                purgedCounter.increment(ids.size());
+                lastId = ids.get(ids.size() - 1);
+
+                if (ids.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("onecar_token 정리 실패 - lastId: {}, error: {}", lastId, e.getMessage(), e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            purgeTimer.record(Duration.ofNanos(elapsedNanos));
+            if (purged > 0 || timedOut) {
+                log.info("onecar_token 정리 - 삭제: {}건, 소요: {}ms, 시간 초과: {}",
+                        purged, elapsedNanos / 1_000_000, timedOut);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.onecar.auth.service;
+
+import com.onecar.auth.entity.OnecarToken;
+import com.onecar.auth.repository.OnecarTokenRepository;
+import com.onecar.auth.util.TokenHashUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃/재로그인으로 폐기된 access token 지문 집합.
+ * 요청마다 onecar_token을 조회하지 않고 상수 시간에 폐기 여부를 확인한다.
+ * 토큰이 원래 만료 시각에 도달하면 JWT 검증에서 걸러지므로 집합에서도 제거한다.
+ * 노드별 메모리이므로 기동 시 DB에서 다시 구성한다.
+ * 트랜잭션 안에서 폐기하면 커밋 후에 반영한다 (롤백된 로그아웃의 토큰이 폐기 상태로 남지 않도록).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationRegistry {
+
+    private final OnecarTokenRepository tokenRepository;
+
+    // key: access token SHA-256, value: access token 만료 시각(epoch millis)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        tokenRepository.findRevokedUnexpired(now).forEach(token ->
+                put(token.getAccessTokenHash(), token.getAccessTokenExpiresAt()));
+        tokenRepository.findRevokedUnexpiredWithoutFingerprint(now).forEach(token ->
+                put(TokenHashUtil.sha256Hex(token.getAccessToken()), token.getAccessTokenExpiresAt()));
+        log.info("폐기 토큰 목록 구성 완료 - {}건", revokedTokens.size());
+    }
+
+    public void revoke(OnecarToken token) {
+        // 지문 백필 이전 행은 원문으로 계산
+        token.assignFingerprints();
+        revoke(token.getAccessTokenHash(), token.getAccessTokenExpiresAt());
+    }
+
+    public void revoke(String accessTokenHash, LocalDateTime accessTokenExpiresAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(accessTokenHash, accessTokenExpiresAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(accessTokenHash, accessTokenExpiresAt);
+            }
+        });
+    }
+
+    public boolean isRevoked(String accessTokenHash) {
+        return revokedTokens.containsKey(accessTokenHash);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.prune-interval-ms:60000}")
+    public void pruneExpired() {
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+    }
+
+    private void put(String accessTokenHash, LocalDateTime accessTokenExpiresAt) {
+        revokedTokens.put(accessTokenHash, toEpochMillis(accessTokenExpiresAt));
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
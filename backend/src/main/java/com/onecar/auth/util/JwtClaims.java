@@ -0,0 +1,30 @@
+package com.onecar.auth.util;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT의 클레임 (불변)
+ */
+@Getter
+@Builder
+public class JwtClaims {
+
+    // 토큰 원문의 SHA-256 (onecar_token.access_token_hash와 동일)
+    private final String tokenHash;
+    private final String subject;
+    private final String type;
+    private final String role;
+    private final Date issuedAt;
+    private final Date expiration;
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+}
@@ -1,77 +1,101 @@
 package com.onecar.auth.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
-    
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
     private final Key key;
+    private final JwtParser jwtParser;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
-    
+
+    // 검증이 끝난 토큰의 클레임 캐시 (key: 토큰 SHA-256, 토큰 만료 시각에 함께 만료)
+    private final Cache<String, JwtClaims> claimsCache;
+
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secretKey,
             @Value("${jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds,
-            @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds) {
-        
+            @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds,
+            @Value("${jwt.claims-cache.maximum-size:10000}") long claimsCacheMaximumSize) {
+
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
         this.accessTokenValidityInMilliseconds = accessTokenValidityInSeconds * 1000;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaximumSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
-    
+
     public String createAccessToken(Authentication authentication) {
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-        Date expiryDate = new Date(System.currentTimeMillis() + accessTokenValidityInMilliseconds);
-        
-        return Jwts.builder()
-                .setSubject(userPrincipal.getUsername())
-                .setIssuedAt(new Date())
-                .setExpiration(expiryDate)
-                .claim("type", "access")
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
+        return createToken(userPrincipal.getUsername(), "access", resolveRole(userPrincipal),
+                accessTokenValidityInMilliseconds);
     }
-    
+
     public String createRefreshToken(String username) {
-        Date expiryDate = new Date(System.currentTimeMillis() + refreshTokenValidityInMilliseconds);
-        
-        return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(new Date())
-                .setExpiration(expiryDate)
-                .claim("type", "refresh")
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
+        return createToken(username, "refresh", null, refreshTokenValidityInMilliseconds);
     }
-    
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        
-        return claims.getSubject();
+
+    /**
+     * 서명 검증 후 클레임 반환. 이미 검증한 토큰은 다시 파싱하지 않는다.
+     *
+     * @throws JwtException 서명 오류, 만료, 형식 오류
+     * @throws IllegalArgumentException 빈 토큰
+     */
+    public JwtClaims parseAndVerify(String token) {
+        String cacheKey = TokenHashUtil.sha256Hex(token);
+        JwtClaims cached = claimsCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        JwtClaims verified = JwtClaims.builder()
+                .tokenHash(cacheKey)
+                .subject(claims.getSubject())
+                .type(claims.get("type", String.class))
+                .role(claims.get("role", String.class))
+                .issuedAt(claims.getIssuedAt())
+                .expiration(claims.getExpiration())
+                .build();
+
+        if (verified.getExpiration() != null) {
+            claimsCache.put(cacheKey, verified);
+        }
+        return verified;
     }
-    
-    public boolean validateToken(String authToken) {
+
+    /**
+     * 유효한 토큰이면 클레임, 아니면 empty (사유는 로그로 남긴다)
+     */
+    public Optional<JwtClaims> resolveClaims(String authToken) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
-        } catch (SecurityException ex) {
+            return Optional.of(parseAndVerify(authToken));
+        } catch (io.jsonwebtoken.security.SecurityException ex) {
             log.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
             log.error("Invalid JWT token");
@@ -81,21 +105,87 @@ public class JwtTokenProvider {
             log.error("Unsupported JWT token");
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
+        } catch (JwtException ex) {
+            log.error("Invalid JWT: {}", ex.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    public String getUsernameFromToken(String token) {
+        return parseAndVerify(token).getSubject();
     }
-    
+
+    public boolean validateToken(String authToken) {
+        return resolveClaims(authToken).isPresent();
+    }
+
     public Date getExpirationDateFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        
-        return claims.getExpiration();
+        return parseAndVerify(token).getExpiration();
     }
-    
+
     public long getAccessTokenValidityInMilliseconds() {
         return accessTokenValidityInMilliseconds;
     }
-}
\ No newline at end of file
+
+    private String createToken(String subject, String type, String role, long validityInMilliseconds) {
+        Date issuedAt = new Date();
+        Date expiryDate = new Date(issuedAt.getTime() + validityInMilliseconds);
+
+        // jti: 같은 초에 다시 발급해도 토큰(지문)이 겹치지 않도록 (지문 유니크 인덱스, 폐기 목록)
+        String token = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(subject)
+                .setIssuedAt(issuedAt)
+                .setExpiration(expiryDate)
+                .claim("type", type)
+                .claim("role", role)
+                .signWith(key, SignatureAlgorithm.HS512)
+                .compact();
+
+        // 직접 서명한 토큰이므로 첫 요청부터 재검증 없이 사용 (JWT 시각은 초 단위로 잘린다)
+        String tokenHash = TokenHashUtil.sha256Hex(token);
+        claimsCache.put(tokenHash, JwtClaims.builder()
+                .tokenHash(tokenHash)
+                .subject(subject)
+                .type(type)
+                .role(role)
+                .issuedAt(truncateToSeconds(issuedAt))
+                .expiration(truncateToSeconds(expiryDate))
+                .build());
+
+        return token;
+    }
+
+    // ROLE_USER -> USER
+    private static String resolveRole(UserDetails userPrincipal) {
+        return userPrincipal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .map(authority -> authority.substring(ROLE_PREFIX.length()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static Date truncateToSeconds(Date date) {
+        return new Date(date.getTime() / 1000 * 1000);
+    }
+
+    private static class TokenExpiry implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,23 +1,45 @@
 package com.onecar.car.controller;
 
 import com.onecar.car.dto.CarDetailResponse;
+import com.onecar.car.dto.CarImageContent;
 import com.onecar.car.dto.CarRegistrationRequest;
+import com.onecar.car.dto.ImageVariant;
+import com.onecar.car.service.CarImageService;
+import com.onecar.car.service.CarImageVariantService;
 import com.onecar.car.service.CarService;
 import com.onecar.common.dto.BasicResponse;
+import com.onecar.common.util.FileResponseWriter;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/cars")
 @RequiredArgsConstructor
 public class CarController {
+    private static final long VARIANT_FALLBACK_MAX_AGE_SECONDS = 60;
+
     private final CarService carService;
+    private final CarImageService carImageService;
+    private final CarImageVariantService carImageVariantService;
+    private final FileResponseWriter fileResponseWriter;
+
+    @Value("${car.image.cache-max-age-seconds:86400}")
+    private long imageCacheMaxAgeSeconds;
 
     @PostMapping("/register")
     @Operation(summary = "차량 등록",
@@ -46,4 +68,51 @@ public class CarController {
                 .data(cars)
                 .build());
     }
-} 
\ No newline at end of file
+
+    @GetMapping("/{carId}/image")
+    @Operation(summary = "차량 이미지 조회",
+            description = "차종 ID로 차량 이미지를 반환합니다. ETag/Cache-Control/Range 요청을 지원하며, If-None-Match가 일치하면 304를 반환합니다. " +
+                    "variant=thumbnail|medium 으로 축소 이미지(JPEG)를 요청할 수 있습니다.")
+    public void getCarImage(@PathVariable Long carId,
+                            @RequestParam(defaultValue = "original") String variant,
+                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        writeImage(carImageService.getImage(carId), ImageVariant.from(variant),
+                CacheControl.maxAge(Duration.ofSeconds(imageCacheMaxAgeSeconds)).cachePublic(), request, response);
+    }
+
+    @GetMapping("/images/{imageHash}")
+    @Operation(summary = "차량 이미지 조회 (내용 주소)",
+            description = "이미지 SHA-256으로 차량 이미지를 반환합니다. 내용이 바뀌지 않는 URL이므로 장기 캐시(immutable)됩니다.")
+    public void getCarImageByHash(@PathVariable String imageHash,
+                                  @RequestParam(defaultValue = "original") String variant,
+                                  HttpServletRequest request, HttpServletResponse response) throws IOException {
+        writeImage(carImageService.getImageByHash(imageHash), ImageVariant.from(variant),
+                CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable(), request, response);
+    }
+
+    private void writeImage(CarImageContent image, ImageVariant variant, CacheControl cacheControl,
+                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!image.isExternal() && variant != ImageVariant.ORIGINAL) {
+            Optional<CarImageContent> resized = carImageVariantService.getVariant(image, variant);
+            if (resized.isPresent()) {
+                image = resized.get();
+            } else if (carImageVariantService.canResize(image.getHash())) {
+                // 변형을 아직 만들지 못했으면 원본을 짧게만 캐시 (다음 요청에서 변형 제공)
+                cacheControl = CacheControl.maxAge(Duration.ofSeconds(VARIANT_FALLBACK_MAX_AGE_SECONDS)).cachePublic();
+            }
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+
+        if (image.isExternal()) {
+            response.setStatus(HttpServletResponse.SC_FOUND);
+            response.setHeader(HttpHeaders.LOCATION, image.getExternalUrl());
+            return;
+        }
+
+        // ETag는 내용 해시, 일치하면 파일을 열지 않고 304 응답
+        if (new ServletWebRequest(request, response).checkNotModified(image.getHash())) {
+            return;
+        }
+        fileResponseWriter.write(request, response, image.getPath(), image.getContentType());
+    }
+}
@@ -10,7 +10,7 @@ public class CarDetailResponse {
     // Car specification info
     private String model;
     private String manufacturer;
-    private String carImage;
+    private String imageUrl;
     private String fuelType;
     private Double fuelEfficiency;
     private Integer engineDisplacement;
@@ -0,0 +1,32 @@
+package com.onecar.car.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.nio.file.Path;
+
+/**
+ * 이미지 API 응답 내용: 이미지 저장소의 파일(SHA-256 키) 또는 외부 이미지 URL(리다이렉트)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CarImageContent {
+    private final String hash;
+    private final Path path;
+    private final MediaType contentType;
+    private final String externalUrl;
+
+    public static CarImageContent file(String hash, Path path, MediaType contentType) {
+        return new CarImageContent(hash, path, contentType, null);
+    }
+
+    public static CarImageContent external(String url) {
+        return new CarImageContent(null, null, null, url);
+    }
+
+    public boolean isExternal() {
+        return externalUrl != null;
+    }
+}
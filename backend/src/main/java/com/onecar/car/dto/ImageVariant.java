@@ -0,0 +1,35 @@
+package com.onecar.car.dto;
+
+import com.onecar.common.exception.BusinessException;
+import com.onecar.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * 차량 이미지 크기 변형 (이미지 API의 variant 파라미터)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    ORIGINAL(0),
+    THUMBNAIL(200),   // 목록/작은 카드
+    MEDIUM(640);      // 상세/큰 카드
+
+    // 최대 가로 픽셀 (원본보다 크게 늘리지 않는다)
+    private final int maxWidth;
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static ImageVariant from(String value) {
+        for (ImageVariant variant : values()) {
+            if (variant.key().equalsIgnoreCase(value)) {
+                return variant;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+}
@@ -22,9 +22,13 @@ public class Car extends DateTimeEntity {
     @Column(nullable = false)
     private String manufacturer;
 
-    @Lob
-    @Column(name = "car_image")
-    private String carImage;
+    // 이미지 저장소(ContentAddressedStore)의 SHA-256 키
+    @Column(name = "image_hash", length = 64)
+    private String imageHash;
+
+    // 외부 URL로 저장된 이미지 (저장소로 옮기지 않고 리다이렉트, 설정되면 car_image LOB를 다시 읽지 않는다)
+    @Column(name = "image_url", length = 2000)
+    private String imageUrl;
 
     @Column(name = "fuel_type", nullable = false)
     private String fuelType;
@@ -0,0 +1,26 @@
+package com.onecar.car.entity;
+
+import com.onecar.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 차량 제원(cars)의 기존 이미지 LOB 컬럼만 읽는 엔티티.
+ * 이미지는 이미지 저장소로 옮긴 뒤 image_hash로 참조하며, 이 엔티티는 옮기지 않은 행을 옮길 때만 사용한다.
+ */
+@Entity
+@Immutable
+@Table(name = "cars")
+@Getter
+@NoArgsConstructor
+public class CarImage extends DateTimeEntity {
+    @Id
+    private Long id;
+
+    // data URI(data:image/png;base64,...), base64 문자열 또는 외부 이미지 URL
+    @Lob
+    @Column(name = "car_image")
+    private String carImage;
+}
@@ -9,13 +9,21 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "onecar_mycar")
+@Table(name = "onecar_mycar", uniqueConstraints = {
+        @UniqueConstraint(name = OnecarMyCar.LICENSE_PLATE_CONSTRAINT, columnNames = "license_plate"),
+        @UniqueConstraint(name = OnecarMyCar.VIN_CONSTRAINT, columnNames = "vin")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 public class OnecarMyCar extends DateTimeEntity {
+
+    public static final String LICENSE_PLATE_CONSTRAINT = "uk_onecar_mycar_license_plate";
+    public static final String VIN_CONSTRAINT = "uk_onecar_mycar_vin";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "onecar_mycar_seq")
+    @SequenceGenerator(name = "onecar_mycar_seq", sequenceName = "ONECAR_MYCAR_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(name = "member_id", nullable = false, length = 50)
@@ -48,9 +56,13 @@ public class OnecarMyCar extends DateTimeEntity {
     @Column(name = "base_price")
     private Long basePrice;
 
-    @Lob
-    @Column(name = "car_image")
-    private String carImage;
+    // 차량 제원(cars) ID
+    @Column(name = "car_id")
+    private Long carId;
+
+    // 이미지 저장소의 SHA-256 키 (같은 차종은 같은 파일을 공유)
+    @Column(name = "image_hash", length = 64)
+    private String imageHash;
 
     @Column(name = "mileage")
     private Integer mileage;
@@ -61,7 +73,7 @@ public class OnecarMyCar extends DateTimeEntity {
     @Column(name = "trim")
     private String trim;
 
-    @Column(name = "vin", unique = true)
+    @Column(name = "vin")
     private String vin;
 
     @Column(name = "registration_date", nullable = false)
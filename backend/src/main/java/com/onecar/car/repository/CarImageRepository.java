@@ -0,0 +1,18 @@
+package com.onecar.car.repository;
+
+import com.onecar.car.entity.CarImage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CarImageRepository extends JpaRepository<CarImage, Long> {
+    
+    // 이미지 저장소로 아직 옮기지 않은 행 (외부 URL로 확인된 행 제외)
+    @Query("SELECT ci FROM CarImage ci WHERE ci.id > :lastId AND ci.carImage IS NOT NULL " +
+           "AND ci.id IN (SELECT c.id FROM Car c WHERE c.imageHash IS NULL AND c.imageUrl IS NULL) ORDER BY ci.id")
+    List<CarImage> findMigrationBatch(Long lastId, Pageable pageable);
+}
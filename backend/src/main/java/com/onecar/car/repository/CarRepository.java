@@ -0,0 +1,27 @@
+package com.onecar.car.repository;
+
+import com.onecar.car.entity.Car;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CarRepository extends JpaRepository<Car, Long> {
+    
+    @Query("SELECT c.imageHash FROM Car c WHERE c.id = :id AND c.imageHash IS NOT NULL")
+    Optional<String> findImageHashById(Long id);
+    
+    @Query("SELECT c.imageUrl FROM Car c WHERE c.id = :id AND c.imageUrl IS NOT NULL")
+    Optional<String> findImageUrlById(Long id);
+    
+    @Modifying
+    @Query("UPDATE Car c SET c.imageHash = :imageHash WHERE c.id = :id")
+    int updateImageHash(Long id, String imageHash);
+    
+    @Modifying
+    @Query("UPDATE Car c SET c.imageUrl = :imageUrl WHERE c.id = :id")
+    int updateImageUrl(Long id, String imageUrl);
+}
@@ -2,6 +2,8 @@ package com.onecar.car.repository;
 
 import com.onecar.car.entity.OnecarMyCar;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,6 +13,9 @@ import java.util.Optional;
 public interface OnecarMyCarRepository extends JpaRepository<OnecarMyCar, Long> {
     List<OnecarMyCar> findByMemberId(String memberId);
     Optional<OnecarMyCar> findByLicensePlate(String licensePlate);
-    boolean existsByLicensePlate(String licensePlate);
-    boolean existsByVin(String vin);
+    
+    // 차종 이미지를 저장소로 옮긴 뒤 이미 등록된 차량에도 반영
+    @Modifying
+    @Query("UPDATE OnecarMyCar m SET m.imageHash = :imageHash WHERE m.carId = :carId")
+    int updateImageHashByCarId(Long carId, String imageHash);
 } 
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.onecar.car.repository;
 
 import com.onecar.car.entity.UserCar;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +13,8 @@ public interface UserCarRepository extends JpaRepository<UserCar, Long> {
     Optional<UserCar> findByLicensePlate(String licensePlate);
     boolean existsByLicensePlate(String licensePlate);
     boolean existsByVin(String vin);
+    
+    // 차량 등록 시 제원(Car)까지 한 번에 조회
+    @Query("SELECT uc FROM UserCar uc JOIN FETCH uc.car WHERE uc.licensePlate = :licensePlate")
+    Optional<UserCar> findWithCarByLicensePlate(String licensePlate);
 } 
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.onecar.car.service;
+
+import com.onecar.car.entity.CarImage;
+import com.onecar.car.repository.CarImageRepository;
+import com.onecar.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * cars.car_image(LOB)를 이미지 저장소로 옮긴다.
+ * id 기준 keyset 페이지 단위로 배치마다 별도 트랜잭션을 사용하며, 한 배치의 LOB만 메모리에 올린다.
+ */
+@Slf4j
+@Service
+public class CarImageMigrationService {
+
+    private final CarImageRepository carImageRepository;
+    private final CarImageService carImageService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public CarImageMigrationService(
+            CarImageRepository carImageRepository,
+            CarImageService carImageService,
+            PlatformTransactionManager transactionManager,
+            @Value("${car.image.migration-enabled:true}") boolean enabled,
+            @Value("${car.image.migration-batch-size:20}") int batchSize) {
+
+        this.carImageRepository = carImageRepository;
+        this.carImageService = carImageService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+
+        long lastId = 0L;
+        long migrated = 0L;
+
+        try {
+            while (true) {
+                long fromId = lastId;
+                List<Long> batch = transactionTemplate.execute(status -> {
+                    List<CarImage> images = carImageRepository.findMigrationBatch(fromId, PageRequest.of(0, batchSize));
+                    images.forEach(this::migrateQuietly);
+                    return images.stream().map(CarImage::getId).toList();
+                });
+
+                if (batch == null || batch.isEmpty()) {
+                    break;
+                }
+
+                migrated += batch.size();
+                lastId = batch.get(batch.size() - 1);
+
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            // 실패해도 서비스는 계속 동작 (옮기지 않은 이미지는 조회 시 옮긴다), 다음 기동 시 이어서 처리
+            log.error("차량 이미지 저장소 이전 실패 - lastId: {}, error: {}", lastId, e.getMessage(), e);
+            return;
+        }
+
+        if (migrated > 0) {
+            log.info("차량 이미지 저장소 이전 완료 - 처리 건수: {}", migrated);
+        }
+    }
+
+    // 형식이 잘못된 이미지는 건너뛴다 (외부 URL 이미지는 옮기지 않음)
+    private void migrateQuietly(CarImage carImage) {
+        try {
+            carImageService.migrate(carImage);
+        } catch (BusinessException e) {
+            log.warn("차량 이미지 이전 생략 - carId: {}", carImage.getId());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.onecar.car.service;
+
+import com.onecar.car.dto.CarImageContent;
+import com.onecar.car.entity.CarImage;
+import com.onecar.car.repository.CarImageRepository;
+import com.onecar.car.repository.CarRepository;
+import com.onecar.car.repository.OnecarMyCarRepository;
+import com.onecar.common.exception.BusinessException;
+import com.onecar.common.exception.ErrorCode;
+import com.onecar.common.util.ContentAddressedStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 차량 이미지 조회.
+ * 이미지는 내용 주소 저장소(SHA-256)에 한 번만 저장하고 cars/onecar_mycar는 image_hash로 참조하므로,
+ * 조회 시 DB에서는 해시(외부 이미지는 URL)만 읽기 전용 트랜잭션으로 읽고 이미지 바이트는 JDBC를 거치지 않는다.
+ * 아직 옮기지 않은 차종만 처음 조회할 때 LOB를 읽어 저장소로 옮긴다 (차종마다 한 번).
+ */
+@Slf4j
+@Service
+public class CarImageService {
+    private final CarRepository carRepository;
+    private final CarImageRepository carImageRepository;
+    private final OnecarMyCarRepository onecarMyCarRepository;
+    private final ContentAddressedStore contentAddressedStore;
+    private final CarImageVariantService carImageVariantService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate transaction;
+
+    public CarImageService(
+            CarRepository carRepository,
+            CarImageRepository carImageRepository,
+            OnecarMyCarRepository onecarMyCarRepository,
+            ContentAddressedStore contentAddressedStore,
+            CarImageVariantService carImageVariantService,
+            PlatformTransactionManager transactionManager) {
+
+        this.carRepository = carRepository;
+        this.carImageRepository = carImageRepository;
+        this.onecarMyCarRepository = onecarMyCarRepository;
+        this.contentAddressedStore = contentAddressedStore;
+        this.carImageVariantService = carImageVariantService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    public CarImageContent getImage(Long carId) {
+        CarImageContent stored = readOnlyTransaction.execute(status -> findStored(carId));
+        if (stored != null) {
+            return stored;
+        }
+        return transaction.execute(status -> migrate(carImageRepository.findById(carId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CAR_IMAGE_NOT_FOUND))));
+    }
+
+    public CarImageContent getImageByHash(String hash) {
+        Path path = contentAddressedStore.find(hash)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CAR_IMAGE_NOT_FOUND));
+        return CarImageContent.file(hash, path, detectContentType(path));
+    }
+
+    /**
+     * cars.car_image(LOB)를 저장소로 옮기고 cars/onecar_mycar의 image_hash를 채운다.
+     * 외부 URL로 저장된 이미지는 옮기지 않고 cars.image_url에 기록한 뒤 리다이렉트 대상으로 돌려준다.
+     * 호출하는 쪽 트랜잭션 안에서 실행한다 (형식 오류로 예외가 나도 배치 트랜잭션을 롤백 전용으로 만들지 않도록).
+     */
+    public CarImageContent migrate(CarImage carImage) {
+        String image = carImage.getCarImage() != null ? carImage.getCarImage().trim() : "";
+        if (image.isEmpty()) {
+            throw new BusinessException(ErrorCode.CAR_IMAGE_NOT_FOUND);
+        }
+        if (image.startsWith("http://") || image.startsWith("https://")) {
+            carRepository.updateImageUrl(carImage.getId(), image);
+            return CarImageContent.external(image);
+        }
+
+        byte[] bytes;
+        try {
+            bytes = decode(image);
+        } catch (IllegalArgumentException e) {
+            log.warn("차량 이미지 형식 오류 - carId: {}, {}", carImage.getId(), e.getMessage());
+            throw new BusinessException(ErrorCode.CAR_IMAGE_NOT_FOUND);
+        }
+
+        String hash = contentAddressedStore.put(bytes);
+        carRepository.updateImageHash(carImage.getId(), hash);
+        int myCars = onecarMyCarRepository.updateImageHashByCarId(carImage.getId(), hash);
+        log.info("차량 이미지 저장소 이전 - carId: {}, hash: {}, 등록 차량: {}건", carImage.getId(), hash, myCars);
+
+        CarImageContent stored = getImageByHash(hash);
+        // 목록용 썸네일/중간 크기 변형은 백그라운드에서 미리 생성
+        carImageVariantService.generateAsync(hash, stored.getPath());
+        return stored;
+    }
+
+    // 저장소로 옮긴 이미지 또는 외부 URL, 둘 다 없으면 null (LOB를 읽지 않는다)
+    private CarImageContent findStored(Long carId) {
+        Optional<String> hash = carRepository.findImageHashById(carId);
+        if (hash.isPresent()) {
+            return getImageByHash(hash.get());
+        }
+        return carRepository.findImageUrlById(carId)
+                .map(CarImageContent::external)
+                .orElse(null);
+    }
+
+    // data:image/png;base64,.... 또는 base64 문자열 (형식은 저장된 바이트의 매직 넘버로 판별)
+    private byte[] decode(String image) {
+        if (image.startsWith("data:")) {
+            int comma = image.indexOf(',');
+            if (comma < 0) {
+                throw new IllegalArgumentException("data URI 형식이 아닙니다");
+            }
+            return Base64.getMimeDecoder().decode(image.substring(comma + 1));
+        }
+        return Base64.getMimeDecoder().decode(image);
+    }
+
+    // 파일 앞부분의 매직 넘버로 이미지 형식 판별
+    private MediaType detectContentType(Path path) {
+        ByteBuffer header = ByteBuffer.allocate(12);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            channel.read(header, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] bytes = Arrays.copyOf(header.array(), header.position());
+
+        if (bytes.length >= 4 && (bytes[0] & 0xFF) == 0x89 && bytes[1] == 'P' && bytes[2] == 'N' && bytes[3] == 'G') {
+            return MediaType.IMAGE_PNG;
+        }
+        if (bytes.length >= 3 && (bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xD8 && (bytes[2] & 0xFF) == 0xFF) {
+            return MediaType.IMAGE_JPEG;
+        }
+        if (bytes.length >= 3 && bytes[0] == 'G' && bytes[1] == 'I' && bytes[2] == 'F') {
+            return MediaType.IMAGE_GIF;
+        }
+        if (bytes.length >= 12 && bytes[0] == 'R' && bytes[1] == 'I' && bytes[2] == 'F' && bytes[3] == 'F'
+                && bytes[8] == 'W' && bytes[9] == 'E' && bytes[10] == 'B' && bytes[11] == 'P') {
+            return MediaType.parseMediaType("image/webp");
+        }
+        return MediaType.APPLICATION_OCTET_STREAM;
+    }
+}
@@ -0,0 +1,248 @@
+package com.onecar.car.service;
+
+import com.onecar.car.dto.CarImageContent;
+import com.onecar.car.dto.ImageVariant;
+import com.onecar.common.util.ContentAddressedStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 차량 이미지의 썸네일/중간 크기 변형(JPEG)을 만들어 이미지 저장소에 파생 내용으로 보관한다.
+ * <ul>
+ *     <li>원본을 저장소로 옮길 때, 또는 변형을 처음 요청받았을 때 생성한다 (한 번 디코딩해 모든 변형을 만든다).</li>
+ *     <li>생성은 크기가 제한된 전용 스레드 풀에서 실행하며, 같은 원본의 동시 요청은 한 번만 생성한다.</li>
+ *     <li>대기 시간 안에 만들지 못했거나 읽을 수 없는 형식이면 empty를 돌려주고, 호출하는 쪽은 원본을 사용한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class CarImageVariantService implements DisposableBean {
+
+    private final ContentAddressedStore contentAddressedStore;
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> unsupported = ConcurrentHashMap.newKeySet();
+    private final Timer generateTimer;
+    private final Counter rejectedCounter;
+
+    @Value("${car.image.variant.wait-ms:3000}")
+    private long waitMillis;
+
+    @Value("${car.image.variant.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @Value("${car.image.variant.max-source-pixels:40000000}")
+    private long maxSourcePixels;
+
+    public CarImageVariantService(
+            ContentAddressedStore contentAddressedStore,
+            MeterRegistry meterRegistry,
+            @Value("${car.image.variant.pool-size:2}") int poolSize,
+            @Value("${car.image.variant.queue-capacity:100}") int queueCapacity) {
+
+        this.contentAddressedStore = contentAddressedStore;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("image-variant-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // 디코딩 중 임시 파일을 만들지 않도록
+        ImageIO.setUseCache(false);
+
+        new ExecutorServiceMetrics(executor, "car.image.variant", Tags.empty()).bindTo(meterRegistry);
+        this.generateTimer = Timer.builder("car.image.variant.generate")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("car.image.variant.rejected")
+                .register(meterRegistry);
+    }
+
+    public Optional<CarImageContent> getVariant(CarImageContent original, ImageVariant variant) {
+        Optional<CarImageContent> existing = findVariant(original.getHash(), variant);
+        if (existing.isPresent() || unsupported.contains(original.getHash())) {
+            return existing;
+        }
+
+        try {
+            generateAsync(original.getHash(), original.getPath()).get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.debug("이미지 변형 생성 대기 시간 초과 - {}", original.getHash());
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+        return findVariant(original.getHash(), variant);
+    }
+
+    /**
+     * 원본의 모든 변형을 백그라운드에서 생성 (대기열이 가득 차면 실패한 future, 다음 요청 때 다시 시도)
+     */
+    public CompletableFuture<Void> generateAsync(String hash, Path source) {
+        CompletableFuture<Void> flight = new CompletableFuture<>();
+        CompletableFuture<Void> existing = inFlight.putIfAbsent(hash, flight);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    generateTimer.record(() -> generate(hash, source));
+                    flight.complete(null);
+                } catch (Exception e) {
+                    log.warn("이미지 변형 생성 실패 - {}: {}", hash, e.getMessage());
+                    flight.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(hash, flight);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            inFlight.remove(hash, flight);
+            flight.completeExceptionally(e);
+        }
+        return flight;
+    }
+
+    /**
+     * @return 변형을 만들 수 없는 원본(지원하지 않는 형식/크기)이면 false
+     */
+    public boolean canResize(String hash) {
+        return !unsupported.contains(hash);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private Optional<CarImageContent> findVariant(String hash, ImageVariant variant) {
+        return contentAddressedStore.findDerived(hash, variant.key())
+                .map(path -> CarImageContent.file(hash + "-" + variant.key(), path, MediaType.IMAGE_JPEG));
+    }
+
+    private void generate(String hash, Path source) {
+        BufferedImage image = read(source);
+        if (image == null) {
+            // ImageIO가 읽지 못하는 형식(WebP 등)이나 너무 큰 이미지는 원본만 제공
+            unsupported.add(hash);
+            log.info("이미지 변형 생략 (지원하지 않는 형식/크기) - {}", hash);
+            return;
+        }
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (variant == ImageVariant.ORIGINAL) {
+                continue;
+            }
+            contentAddressedStore.putDerived(hash, variant.key(), encodeJpeg(scale(image, variant.getMaxWidth())));
+        }
+        log.info("이미지 변형 생성 - {} ({}x{})", hash, image.getWidth(), image.getHeight());
+    }
+
+    // 크기를 먼저 확인해 과도하게 큰 이미지(압축 폭탄)는 디코딩하지 않는다
+    private BufferedImage read(Path source) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxSourcePixels) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 절반씩 줄여 나가며 축소 (한 번에 크게 줄일 때의 계단 현상 방지), 투명 영역은 흰색 배경으로
+    private BufferedImage scale(BufferedImage source, int maxWidth) {
+        int targetWidth = Math.min(maxWidth, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -9,8 +9,10 @@ import com.onecar.car.repository.OnecarMyCarRepository;
 import com.onecar.car.repository.UserCarRepository;
 import com.onecar.common.exception.BusinessException;
 import com.onecar.common.exception.ErrorCode;
+import com.onecar.common.util.DataIntegrityUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,13 +24,16 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class CarService {
+    private static final String IMAGE_URL_FORMAT = "/api/cars/%d/image";
+    private static final String HASHED_IMAGE_URL_FORMAT = "/api/cars/images/%s";
+
     private final UserCarRepository userCarRepository;
     private final OnecarMyCarRepository onecarMyCarRepository;
 
     @Transactional
     public void registerCar(String memberId, CarRegistrationRequest request) {
         // "외부" 시스템(user_cars 테이블)에서 차량 정보 조회
-        UserCar userCar = userCarRepository.findByLicensePlate(request.getLicensePlate())
+        UserCar userCar = userCarRepository.findWithCarByLicensePlate(request.getLicensePlate())
                 .orElseThrow(() -> new BusinessException(ErrorCode.CAR_NOT_FOUND));
 
         // 차량 소유자 이름 확인
@@ -38,15 +43,6 @@ public class CarService {
             throw new BusinessException(ErrorCode.OWNER_MISMATCH);
         }
 
-        // 이미 등록된 차량인지 확인
-        if (onecarMyCarRepository.existsByLicensePlate(request.getLicensePlate())) {
-            throw new BusinessException(ErrorCode.DUPLICATE_LICENSE_PLATE);
-        }
-
-        if (onecarMyCarRepository.existsByVin(userCar.getVin())) {
-            throw new BusinessException(ErrorCode.DUPLICATE_VIN);
-        }
-
         // 원카 시스템에 차량 정보 저장
         Car car = userCar.getCar();
         OnecarMyCar onecarMyCar = new OnecarMyCar();
@@ -63,10 +59,16 @@ public class CarService {
         onecarMyCar.setTrim(userCar.getTrim() != null ? userCar.getTrim() : "기본");
         onecarMyCar.setVin(userCar.getVin());
         onecarMyCar.setBasePrice(car.getBasePrice());
-        onecarMyCar.setCarImage(car.getCarImage());
+        onecarMyCar.setCarId(car.getId());
+        onecarMyCar.setImageHash(car.getImageHash());
         onecarMyCar.setMileage(userCar.getMileage());
         
-        onecarMyCarRepository.save(onecarMyCar);
+        // 이미 등록된 차량(번호판/VIN 중복)은 유니크 제약으로 판별 (동시 등록도 한 건만 성공)
+        try {
+            onecarMyCarRepository.saveAndFlush(onecarMyCar);
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(resolveRegistrationDuplicate(e));
+        }
         
         log.info("차량 등록 완료 - memberId: {}, licensePlate: {}, ownerName: {}", 
                 memberId, request.getLicensePlate(), request.getOwnerName());
@@ -79,13 +81,31 @@ public class CarService {
                 .collect(Collectors.toList());
     }
 
+    private ErrorCode resolveRegistrationDuplicate(DataIntegrityViolationException e) {
+        if (!DataIntegrityUtil.isUniqueViolation(e)) {
+            throw e;
+        }
+        if (DataIntegrityUtil.violates(e, OnecarMyCar.VIN_CONSTRAINT)) {
+            return ErrorCode.DUPLICATE_VIN;
+        }
+        return ErrorCode.DUPLICATE_LICENSE_PLATE;
+    }
+
+    // 저장소로 옮긴 이미지는 내용 주소 URL(변경 불가, 장기 캐시), 아니면 차종 ID URL
+    private String imageUrlOf(OnecarMyCar myCar) {
+        if (myCar.getImageHash() != null) {
+            return String.format(HASHED_IMAGE_URL_FORMAT, myCar.getImageHash());
+        }
+        return myCar.getCarId() != null ? String.format(IMAGE_URL_FORMAT, myCar.getCarId()) : null;
+    }
+
     private CarDetailResponse convertToDetailResponse(OnecarMyCar myCar) {
         CarDetailResponse response = new CarDetailResponse();
         
         // Set car specification info
         response.setModel(myCar.getModel());
         response.setManufacturer(myCar.getManufacturer());
-        response.setCarImage(myCar.getCarImage());
+        response.setImageUrl(imageUrlOf(myCar));
         response.setFuelType(myCar.getFuelType());
         response.setFuelEfficiency(myCar.getFuelEfficiency());
         response.setEngineDisplacement(myCar.getEngineDisplacement());
@@ -0,0 +1,26 @@
+package com.onecar.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 리액티브 파이프라인 안에서 실행하는 블로킹 작업(JPA 조회/저장)용 스케줄러.
+ * 스레드 수를 DB 커넥션 풀 크기 수준으로 제한해 Netty 이벤트 루프와 Tomcat 스레드를 점유하지 않게 한다.
+ */
+@Configuration
+public class BlockingSchedulerConfig {
+
+    @Value("${openbanking.blocking-scheduler.thread-cap:10}")
+    private int threadCap;
+
+    @Value("${openbanking.blocking-scheduler.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingScheduler() {
+        return Schedulers.newBoundedElastic(threadCap, queueCapacity, "blocking-io");
+    }
+}
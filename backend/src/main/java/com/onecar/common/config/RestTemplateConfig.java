@@ -1,19 +1,92 @@
 package com.onecar.common.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * 동기 외부 연동용 RestTemplate.
+ * Apache HttpClient 커넥션 풀("restTemplate")로 keep-alive 연결을 재사용하며, 타임아웃/풀 크기/유휴 정리는
+ * 오픈뱅킹 WebClient와 같은 openbanking.http.* 설정을 사용한다.
+ * 풀 상태는 httpcomponents.httpclient.pool.* 지표, 요청 시간은 http.client.requests 지표로 확인할 수 있다.
+ */
 @Configuration
 public class RestTemplateConfig {
-    
+
+    @Value("${openbanking.http.connect-timeout-ms:5000}")
+    private long connectTimeoutMillis;
+
+    @Value("${openbanking.http.response-timeout-ms:5000}")
+    private long responseTimeoutMillis;
+
+    @Value("${openbanking.http.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${openbanking.http.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${openbanking.http.pending-acquire-timeout-ms:2000}")
+    private long pendingAcquireTimeoutMillis;
+
+    @Value("${openbanking.http.max-idle-time-ms:30000}")
+    private long maxIdleTimeMillis;
+
+    @Value("${openbanking.http.max-life-time-ms:300000}")
+    private long maxLifeTimeMillis;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient restTemplateHttpClient(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                        .setTimeToLive(TimeValue.ofMilliseconds(maxLifeTimeMillis))
+                        // 일정 시간 쉰 연결은 재사용 전에 끊김 여부 확인
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .setDefaultSocketConfig(SocketConfig.custom()
+                        .setSoKeepAlive(true)
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "restTemplate")
+                .bindTo(meterRegistry);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(pendingAcquireTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                        .build())
+                // 상대편이 먼저 끊었을 유휴 연결과 수명이 지난 연결을 백그라운드에서 정리
+                .evictIdleConnections(TimeValue.ofMilliseconds(maxIdleTimeMillis))
+                .evictExpiredConnections()
+                .build();
+    }
+
+    // RestTemplateBuilder를 사용해야 http.client.requests 관측(요청 시간 지표)이 적용된다
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000); // 5초
-        factory.setReadTimeout(10000); // 10초
-        
-        return new RestTemplate(factory);
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient restTemplateHttpClient) {
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(restTemplateHttpClient))
+                .build();
     }
-} 
\ No newline at end of file
+}
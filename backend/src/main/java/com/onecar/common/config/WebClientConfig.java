@@ -1,32 +1,84 @@
 package com.onecar.common.config;
 
 import io.netty.channel.ChannelOption;
-import io.netty.handler.timeout.ReadTimeoutHandler;
-import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
 
+/**
+ * 오픈뱅킹 호출용 WebClient.
+ * 전용 커넥션 풀("kftc")로 keep-alive 연결을 재사용하며, 풀 상태는
+ * reactor.netty.connection.provider.* 지표(name=kftc)로 확인할 수 있다.
+ */
 @Configuration
 public class WebClientConfig {
 
+    @Value("${openbanking.http.connect-timeout-ms:5000}")
+    private int connectTimeoutMillis;
+
+    @Value("${openbanking.http.response-timeout-ms:5000}")
+    private long responseTimeoutMillis;
+
+    @Value("${openbanking.http.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${openbanking.http.pending-acquire-max-count:500}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${openbanking.http.pending-acquire-timeout-ms:2000}")
+    private long pendingAcquireTimeoutMillis;
+
+    @Value("${openbanking.http.max-idle-time-ms:30000}")
+    private long maxIdleTimeMillis;
+
+    @Value("${openbanking.http.max-life-time-ms:300000}")
+    private long maxLifeTimeMillis;
+
+    @Value("${openbanking.http.evict-interval-ms:30000}")
+    private long evictIntervalMillis;
+
+    @Value("${openbanking.http.http2-enabled:false}")
+    private boolean http2Enabled;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider kftcConnectionProvider() {
+        return ConnectionProvider.builder("kftc")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                // 게이트웨이/LB가 먼저 끊은 유휴 연결을 재사용하지 않도록 주기적으로 정리
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMillis))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMillis))
+                .evictInBackground(Duration.ofMillis(evictIntervalMillis))
+                .lifo()
+                .metrics(true)
+                .build();
+    }
+
     @Bean
-    public WebClient webClient() {
-        HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
-                .responseTimeout(Duration.ofMillis(5000))
-                .doOnConnected(conn ->
-                        conn.addHandlerLast(new ReadTimeoutHandler(5000, TimeUnit.MILLISECONDS))
-                                .addHandlerLast(new WriteTimeoutHandler(5000, TimeUnit.MILLISECONDS)));
+    public WebClient webClient(ConnectionProvider kftcConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(kftcConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                // 응답 타임아웃은 요청 단위로 적용 (연결마다 Read/WriteTimeoutHandler를 추가하지 않는다)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis))
+                .metrics(true, uri -> uri.replaceAll("\\?.*$", ""));
+
+        if (http2Enabled) {
+            // TLS(ALPN)로 h2 협상, 지원하지 않는 서버는 HTTP/1.1 사용
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
 
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024)) // 1MB
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package com.onecar.common.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.onecar.common.dto.BasicResponse;
+import com.onecar.common.dto.KftcBatchRequest;
+import com.onecar.common.exception.BusinessException;
+import com.onecar.common.exception.ErrorCode;
+import com.onecar.common.util.KftcApiUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/kftc")
+@RequiredArgsConstructor
+@Tag(name = "KFTC 오픈뱅킹 API", description = "금융결제원 오픈뱅킹 조회 API 중계")
+public class KftcProxyController {
+    
+    private final KftcApiUtil kftcApiUtil;
+    
+    @Value("${openbanking.proxy.allowed-path-prefix:/v2.0/}")
+    private String allowedPathPrefix;
+    
+    @PostMapping("/batch")
+    @Operation(
+        summary = "KFTC API 일괄 조회", 
+        description = "여러 계좌의 잔액/거래내역 등 GET 엔드포인트를 동시에 호출합니다. 항목별 성공/실패를 요청 순서대로 반환합니다."
+    )
+    public Mono<ResponseEntity<BasicResponse>> batchGet(
+            @Parameter(hidden = true) @RequestHeader("Authorization") String authorization,
+            @Valid @RequestBody KftcBatchRequest request) {
+        
+        String accessToken = authorization.replace("Bearer ", "");
+        List<String> endpoints = request.getEndpoints();
+        endpoints.forEach(this::validateEndpoint);
+        
+        log.info("KFTC 일괄 조회 - {}건", endpoints.size());
+        
+        return kftcApiUtil.callKftcGetApiBatchAsync(accessToken, endpoints, JsonNode.class)
+                .map(items -> ResponseEntity.ok(BasicResponse.builder()
+                        .status(200)
+                        .message("성공")
+                        .data(items)
+                        .build()));
+    }
+    
+    // 오픈뱅킹 API 경로만 중계 (다른 호스트/경로 호출 방지)
+    private void validateEndpoint(String endpoint) {
+        if (!endpoint.startsWith(allowedPathPrefix) || endpoint.contains("..") || endpoint.contains("://")) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.onecar.common.dto;
+
+import com.onecar.common.exception.BusinessException;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * KFTC 일괄 조회의 항목별 결과 (실패한 항목이 있어도 나머지 결과는 반환)
+ */
+@Getter
+@Builder
+public class KftcBatchItem<T> {
+
+    private final String endpoint;
+    private final boolean success;
+    private final T data;
+    private final Integer errorStatus;
+    private final String errorMessage;
+
+    public static <T> KftcBatchItem<T> success(String endpoint, T data) {
+        return KftcBatchItem.<T>builder()
+                .endpoint(endpoint)
+                .success(true)
+                .data(data)
+                .build();
+    }
+
+    public static <T> KftcBatchItem<T> failure(String endpoint, Throwable error) {
+        int status = 500;
+        String message = error.getMessage();
+
+        if (error instanceof BusinessException businessException) {
+            status = businessException.getErrorCode().getStatus();
+        } else if (error instanceof WebClientResponseException responseException) {
+            status = responseException.getStatusCode().value();
+            message = responseException.getStatusText();
+        }
+
+        return KftcBatchItem.<T>builder()
+                .endpoint(endpoint)
+                .success(false)
+                .errorStatus(status)
+                .errorMessage(message)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.onecar.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "KFTC API 일괄 조회 요청")
+public class KftcBatchRequest {
+    
+    @NotEmpty(message = "조회할 엔드포인트는 필수입니다.")
+    @Schema(description = "조회할 KFTC GET 엔드포인트 (쿼리 포함)", 
+            example = "[\"/v2.0/account/balance/fin_num?fintech_use_num=123\"]", 
+            required = true)
+    private List<@NotBlank String> endpoints;
+}
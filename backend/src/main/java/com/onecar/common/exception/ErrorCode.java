@@ -11,6 +11,11 @@ public enum ErrorCode {
     INVALID_INPUT_VALUE(400, "C_003", "적절하지 않은 요청 값입니다."),
     INVALID_TYPE_VALUE(400, "C_004", "요청 값의 타입이 잘못되었습니다."),
     ENTITY_NOT_FOUND(400, "C_005", "지정한 Entity를 찾을 수 없습니다."),
+    SERVER_BUSY(503, "C_006", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
+    KFTC_UNAVAILABLE(503, "K_001", "오픈뱅킹 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
+    KFTC_TIMEOUT(504, "K_002", "오픈뱅킹 응답 시간이 초과되었습니다."),
+    KFTC_API_ERROR(502, "K_003", "오픈뱅킹 API 호출에 실패하였습니다."),
 
     LOCATION_NOT_FOUND(400, "L_001", "잘못된 위치 정보입니다. 1~17 사이의 숫자를 입력해주세요."),
 
@@ -33,7 +38,8 @@ public enum ErrorCode {
     DUPLICATE_VIN(409, "R_003", "이미 존재하는 VIN 입니다"),
     
     CAR_NOT_FOUND(404, "C_001", "차량 정보를 찾을 수 없습니다"),
-    OWNER_MISMATCH(403, "C_002", "차량 소유자 정보가 일치하지 않습니다");
+    OWNER_MISMATCH(403, "C_002", "차량 소유자 정보가 일치하지 않습니다"),
+    CAR_IMAGE_NOT_FOUND(404, "C_007", "차량 이미지를 찾을 수 없습니다");
 
     private final int status;
     private final String code;
@@ -0,0 +1,39 @@
+package com.onecar.common.stub;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * kftc-stub 프로파일: 애플리케이션과 함께 KFTC 스텁 서버를 기동한다.
+ * openbanking.base-url은 application-kftc-stub.yml에서 스텁 주소로 바뀐다.
+ */
+@Configuration
+@Profile("kftc-stub")
+public class KftcStubConfig {
+
+    @Bean(destroyMethod = "stop")
+    public KftcStubServer kftcStubServer(
+            @Value("${kftc-stub.port:18090}") int port,
+            @Value("${kftc-stub.latency-distribution:LOG_NORMAL}") KftcStubServer.LatencyDistribution latencyDistribution,
+            @Value("${kftc-stub.latency-ms:80}") long latencyMillis,
+            @Value("${kftc-stub.latency-spread-ms:0}") long latencySpreadMillis,
+            @Value("${kftc-stub.latency-sigma:0.5}") double latencySigma,
+            @Value("${kftc-stub.error-rate:0.0}") double errorRate,
+            @Value("${kftc-stub.account-count:3}") int accountCount,
+            @Value("${kftc-stub.transaction-count:20}") int transactionCount) {
+
+        return new KftcStubServer(KftcStubServer.Settings.builder()
+                .port(port)
+                .latencyDistribution(latencyDistribution)
+                .latencyMillis(latencyMillis)
+                .latencySpreadMillis(latencySpreadMillis)
+                .latencySigma(latencySigma)
+                .errorRate(errorRate)
+                .accountCount(accountCount)
+                .transactionCount(transactionCount)
+                .build())
+                .start();
+    }
+}
@@ -0,0 +1,231 @@
+package com.onecar.common.stub;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 부하 테스트용 KFTC 오픈뱅킹 스텁 서버 (reactor-netty).
+ * 토큰 발급과 사용자/계좌/잔액/거래내역 조회 응답을 흉내 내며, 응답 지연 분포, 오류율, 응답 크기를 설정할 수 있다.
+ * 테스트/벤치마크에서는 직접 생성해 사용하고, 애플리케이션에서는 kftc-stub 프로파일로 함께 기동한다.
+ */
+@Slf4j
+public class KftcStubServer {
+
+    private static final DateTimeFormatter TRAN_DTIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final Settings settings;
+    private DisposableServer server;
+
+    public KftcStubServer(Settings settings) {
+        this.settings = settings;
+    }
+
+    public KftcStubServer start() {
+        server = HttpServer.create()
+                .host(settings.getHost())
+                .port(settings.getPort())
+                .route(routes -> routes
+                        .post("/oauth/2.0/token", (request, response) -> respond(response, this::tokenBody))
+                        .get("/v2.0/user/me", (request, response) -> respond(response, this::userMeBody))
+                        .get("/v2.0/account/list", (request, response) -> respond(response, this::accountListBody))
+                        .get("/v2.0/account/balance/fin_num", (request, response) -> respond(response, this::balanceBody))
+                        .get("/v2.0/account/transaction_list/fin_num",
+                                (request, response) -> respond(response, this::transactionListBody))
+                        .route(request -> true, this::notFound))
+                .bindNow();
+
+        log.info("KFTC 스텁 서버 기동 - {}:{}, 지연: {} {}ms(±{}ms), 오류율: {}",
+                settings.getHost(), server.port(), settings.getLatencyDistribution(),
+                settings.getLatencyMillis(), settings.getLatencySpreadMillis(), settings.getErrorRate());
+        return this;
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+    }
+
+    public int port() {
+        return server.port();
+    }
+
+    public String baseUrl() {
+        return "http://" + settings.getHost() + ":" + port();
+    }
+
+    private Mono<Void> respond(HttpServerResponse response, Supplier<String> body) {
+        return Mono.delay(nextLatency())
+                .flatMap(tick -> {
+                    if (ThreadLocalRandom.current().nextDouble() < settings.getErrorRate()) {
+                        return response.status(HttpResponseStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                                .sendString(Mono.just("{\"rsp_code\":\"O0003\",\"rsp_message\":\"스텁 오류 주입\"}"))
+                                .then();
+                    }
+                    return response.status(HttpResponseStatus.OK)
+                            .header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                            .sendString(Mono.fromSupplier(body))
+                            .then();
+                });
+    }
+
+    private Mono<Void> notFound(HttpServerRequest request, HttpServerResponse response) {
+        return response.status(HttpResponseStatus.NOT_FOUND).send();
+    }
+
+    private Duration nextLatency() {
+        long base = settings.getLatencyMillis();
+        long spread = settings.getLatencySpreadMillis();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long millis = switch (settings.getLatencyDistribution()) {
+            case FIXED -> base;
+            case UNIFORM -> base + (spread > 0 ? random.nextLong(-spread, spread + 1) : 0);
+            // 평균 base의 지수 분포 (긴 꼬리)
+            case EXPONENTIAL -> (long) (-base * Math.log(1 - random.nextDouble()));
+            // 중앙값 base의 로그 정규 분포 (sigma가 클수록 꼬리가 길다)
+            case LOG_NORMAL -> (long) (base * Math.exp(random.nextGaussian() * settings.getLatencySigma()));
+        };
+        return Duration.ofMillis(Math.max(millis, 0));
+    }
+
+    private String tokenBody() {
+        return "{"
+                + "\"access_token\":\"" + UUID.randomUUID() + "\","
+                + "\"token_type\":\"Bearer\","
+                + "\"expires_in\":7776000,"
+                + "\"refresh_token\":\"" + UUID.randomUUID() + "\","
+                + "\"scope\":\"login inquiry transfer\","
+                + "\"user_seq_no\":\"" + (1000000000L + ThreadLocalRandom.current().nextInt(1_000_000)) + "\","
+                + "\"user_name\":\"스텁사용자\""
+                + "}";
+    }
+
+    private String userMeBody() {
+        return "{" + commonHeader()
+                + ",\"user_seq_no\":\"1000000001\",\"user_name\":\"스텁사용자\""
+                + ",\"res_cnt\":\"" + settings.getAccountCount() + "\""
+                + ",\"res_list\":" + accounts()
+                + "}";
+    }
+
+    private String accountListBody() {
+        return "{" + commonHeader()
+                + ",\"user_name\":\"스텁사용자\""
+                + ",\"res_cnt\":\"" + settings.getAccountCount() + "\""
+                + ",\"res_list\":" + accounts()
+                + "}";
+    }
+
+    private String balanceBody() {
+        return "{" + commonHeader()
+                + ",\"bank_name\":\"스텁은행\""
+                + ",\"balance_amt\":\"" + ThreadLocalRandom.current().nextInt(10_000_000) + "\""
+                + ",\"available_amt\":\"" + ThreadLocalRandom.current().nextInt(10_000_000) + "\""
+                + ",\"account_type\":\"1\",\"product_name\":\"스텁 입출금통장\""
+                + "}";
+    }
+
+    private String transactionListBody() {
+        int count = settings.getTransactionCount();
+        StringBuilder body = new StringBuilder(128 + count * 220);
+        body.append('{').append(commonHeader())
+                .append(",\"bank_name\":\"스텁은행\",\"page_record_cnt\":\"").append(count)
+                .append("\",\"next_page_yn\":\"N\",\"res_list\":[");
+
+        LocalDateTime now = LocalDateTime.now();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            String dtime = now.minusMinutes(i * 37L).format(TRAN_DTIME);
+            body.append("{\"tran_date\":\"").append(dtime, 0, 8)
+                    .append("\",\"tran_time\":\"").append(dtime, 8, 14)
+                    .append("\",\"inout_type\":\"").append(i % 3 == 0 ? "입금" : "출금")
+                    .append("\",\"tran_type\":\"체크카드\",\"print_content\":\"스텁가맹점").append(i)
+                    .append("\",\"tran_amt\":\"").append(random.nextInt(1_000, 500_000))
+                    .append("\",\"after_balance_amt\":\"").append(random.nextInt(10_000_000))
+                    .append("\",\"branch_name\":\"스텁지점\"}");
+        }
+        return body.append("]}").toString();
+    }
+
+    private String accounts() {
+        StringBuilder list = new StringBuilder("[");
+        for (int i = 0; i < settings.getAccountCount(); i++) {
+            if (i > 0) {
+                list.append(',');
+            }
+            list.append("{\"fintech_use_num\":\"1209999999999999999").append(String.format("%05d", i))
+                    .append("\",\"account_alias\":\"스텁계좌").append(i)
+                    .append("\",\"bank_code_std\":\"081\",\"bank_name\":\"스텁은행\"")
+                    .append(",\"account_num_masked\":\"000-0000-").append(String.format("%04d", i)).append("***\"")
+                    .append(",\"account_holder_name\":\"스텁사용자\",\"inquiry_agree_yn\":\"Y\"}");
+        }
+        return list.append(']').toString();
+    }
+
+    private String commonHeader() {
+        return "\"api_tran_id\":\"" + UUID.randomUUID() + "\""
+                + ",\"api_tran_dtm\":\"" + LocalDateTime.now().format(TRAN_DTIME) + "000\""
+                + ",\"rsp_code\":\"A0000\",\"rsp_message\":\"\"";
+    }
+
+    public enum LatencyDistribution {
+        FIXED, UNIFORM, EXPONENTIAL, LOG_NORMAL
+    }
+
+    @Getter
+    @Builder
+    public static class Settings {
+
+        @Builder.Default
+        private final String host = "localhost";
+
+        // 0이면 임의 포트
+        @Builder.Default
+        private final int port = 0;
+
+        @Builder.Default
+        private final LatencyDistribution latencyDistribution = LatencyDistribution.FIXED;
+
+        @Builder.Default
+        private final long latencyMillis = 50;
+
+        // UNIFORM: base ± spread
+        @Builder.Default
+        private final long latencySpreadMillis = 0;
+
+        // LOG_NORMAL: ln(지연)의 표준편차
+        @Builder.Default
+        private final double latencySigma = 0.5;
+
+        @Builder.Default
+        private final double errorRate = 0.0;
+
+        @Builder.Default
+        private final int accountCount = 3;
+
+        // 거래내역 응답 크기 (건당 약 200바이트)
+        @Builder.Default
+        private final int transactionCount = 20;
+    }
+}
@@ -0,0 +1,126 @@
+package com.onecar.common.util;
+
+import com.onecar.common.exception.BusinessException;
+import com.onecar.common.exception.ErrorCode;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 논블로킹 세마포어. 허용량이 없으면 스레드를 막거나 재시도하지 않고 대기열에 넣어 두었다가,
+ * 실행 중인 호출이 끝날 때 도착 순서대로 허용량을 넘겨준다.
+ * 대기열이 가득 찼거나 maxWait 안에 허용량을 얻지 못하면 SERVER_BUSY로 실패한다.
+ * 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 ReentrantLock을 사용한다.
+ */
+public class AsyncPermits {
+
+    private final int maxWaiters;
+    private final Duration maxWait;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+    private int available;
+
+    public AsyncPermits(int permits, int maxWaiters, Duration maxWait) {
+        this.available = permits;
+        this.maxWaiters = maxWaiters;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * 허용량을 얻은 뒤 call을 구독하고, 완료/오류/취소 시 반납한다. 대기는 구독 시점부터 maxWait까지.
+     */
+    public <T> Mono<T> withPermit(Mono<T> call) {
+        return Mono.defer(() -> withPermit(call, System.nanoTime() + maxWait.toNanos()));
+    }
+
+    /**
+     * 여러 허용량을 차례로 얻을 때 하나의 마감 시각(System.nanoTime 기준)을 함께 쓰기 위한 변형.
+     * 마감이 지났어도 바로 얻을 수 있는 허용량이 있으면 사용한다.
+     */
+    public <T> Mono<T> withPermit(Mono<T> call, long deadlineNanos) {
+        return Mono.defer(() -> {
+            Waiter waiter = new Waiter();
+            long remainingNanos = Math.max(deadlineNanos - System.nanoTime(), 0);
+            return Mono.<Void>create(sink -> acquire(waiter, sink))
+                    .timeout(Duration.ofNanos(remainingNanos))
+                    .onErrorMap(TimeoutException.class, e -> new BusinessException(ErrorCode.SERVER_BUSY))
+                    .then(call)
+                    .doFinally(signal -> finish(waiter));
+        });
+    }
+
+    private void acquire(Waiter waiter, MonoSink<Void> sink) {
+        boolean granted;
+        lock.lock();
+        try {
+            if (available > 0) {
+                available--;
+                waiter.state = State.GRANTED;
+                granted = true;
+            } else if (waiters.size() < maxWaiters) {
+                waiter.sink = sink;
+                waiters.addLast(waiter);
+                return;
+            } else {
+                waiter.state = State.DONE;
+                granted = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (granted) {
+            sink.success();
+        } else {
+            sink.error(new BusinessException(ErrorCode.SERVER_BUSY));
+        }
+    }
+
+    // 대기 중이면 대기열에서 빼고, 허용량을 가지고 있으면 반납한다 (구독마다 한 번 호출)
+    private void finish(Waiter waiter) {
+        lock.lock();
+        try {
+            if (waiter.state == State.WAITING) {
+                waiters.remove(waiter);
+                waiter.state = State.DONE;
+                return;
+            }
+            if (waiter.state != State.GRANTED) {
+                return;
+            }
+            waiter.state = State.DONE;
+        } finally {
+            lock.unlock();
+        }
+        release();
+    }
+
+    // 다음 대기자에게 넘기거나 허용량을 돌려놓는다. 대기자의 호출은 락 밖에서 시작한다.
+    private void release() {
+        Waiter next;
+        lock.lock();
+        try {
+            next = waiters.pollFirst();
+            if (next == null) {
+                available++;
+                return;
+            }
+            next.state = State.GRANTED;
+        } finally {
+            lock.unlock();
+        }
+        // 대기자가 이미 취소했다면 success는 무시되고, 그 구독의 finish가 허용량을 반납한다
+        next.sink.success();
+    }
+
+    private enum State { WAITING, GRANTED, DONE }
+
+    private static class Waiter {
+        private State state = State.WAITING;   // lock 안에서만 변경
+        private MonoSink<Void> sink;
+    }
+}
@@ -0,0 +1,150 @@
+package com.onecar.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * SHA-256 내용 주소 기반 로컬 파일 저장소 (이미지 등 변경되지 않는 바이너리).
+ * <ul>
+ *     <li>경로: {root}/{hash 앞 2자}/{hash 다음 2자}/{hash}</li>
+ *     <li>같은 내용은 한 번만 저장된다 (이미 있으면 쓰지 않고 같은 키를 돌려준다).</li>
+ *     <li>임시 파일에 쓴 뒤 원자적으로 이동하므로 읽는 쪽이 쓰다 만 파일을 보지 않는다.</li>
+ *     <li>원본에서 만든 파생 내용(썸네일 등)은 {root}/derived/{hash 앞 2자}/{hash}.{이름} 에 둔다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ContentAddressedStore {
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern DERIVED_NAME_PATTERN = Pattern.compile("[a-z0-9-]{1,32}");
+    private static final String TEMP_DIRECTORY = "tmp";
+    private static final String DERIVED_DIRECTORY = "derived";
+
+    private final Path root;
+
+    public ContentAddressedStore(@Value("${blob-store.root-path:./data/blobs}") String rootPath) {
+        this.root = Path.of(rootPath).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(root.resolve(TEMP_DIRECTORY));
+        } catch (IOException e) {
+            throw new UncheckedIOException("저장소 디렉터리를 만들 수 없습니다: " + root, e);
+        }
+    }
+
+    /**
+     * @return 저장한 내용의 SHA-256 (hex)
+     */
+    public String put(byte[] content) {
+        return put(new ByteArrayInputStream(content));
+    }
+
+    /**
+     * 스트림을 임시 파일로 복사하면서 해시를 계산하므로 내용 전체를 메모리에 올리지 않는다.
+     */
+    public String put(InputStream content) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(root.resolve(TEMP_DIRECTORY), "blob", ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (DigestInputStream in = new DigestInputStream(content, digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = pathOf(hash);
+            if (Files.exists(target)) {
+                log.debug("중복 내용 저장 생략 - {}", hash);
+                return hash;
+            }
+
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 같은 내용을 동시에 저장한 경우
+                log.debug("동시 저장된 내용 - {}", hash);
+            }
+            return hash;
+        } catch (IOException e) {
+            throw new UncheckedIOException("내용 저장 실패", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    public Optional<Path> find(String hash) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    /**
+     * 원본 해시와 이름으로 찾는 파생 내용 저장 (같은 원본/이름은 같은 내용이므로 덮어써도 된다)
+     */
+    public Path putDerived(String sourceHash, String name, byte[] content) {
+        Path target = derivedPathOf(sourceHash, name);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(root.resolve(TEMP_DIRECTORY), "derived", ".tmp");
+            Files.write(temp, content);
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException("파생 내용 저장 실패 - " + sourceHash + "." + name, e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    public Optional<Path> findDerived(String sourceHash, String name) {
+        if (sourceHash == null || !HASH_PATTERN.matcher(sourceHash).matches()) {
+            return Optional.empty();
+        }
+        Path path = derivedPathOf(sourceHash, name);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    private Path derivedPathOf(String sourceHash, String name) {
+        if (!HASH_PATTERN.matcher(sourceHash).matches() || !DERIVED_NAME_PATTERN.matcher(name).matches()) {
+            throw new IllegalArgumentException("잘못된 파생 내용 키 - " + sourceHash + "." + name);
+        }
+        return root.resolve(DERIVED_DIRECTORY).resolve(sourceHash.substring(0, 2)).resolve(sourceHash + "." + name);
+    }
+
+    private Path pathOf(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패 - {}", path);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.onecar.common.util;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLException;
+
+/**
+ * 유니크 제약 위반(ORA-00001) 판별 및 위반 제약명 확인
+ */
+public final class DataIntegrityUtil {
+
+    private static final int ORACLE_UNIQUE_VIOLATION = 1;
+
+    private DataIntegrityUtil() {
+    }
+
+    public static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && (sqlException.getErrorCode() == ORACLE_UNIQUE_VIOLATION
+                    || "23505".equals(sqlException.getSQLState()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Oracle은 제약명을 "스키마.제약명" 형태로 돌려주므로 포함 여부로 비교한다.
+     */
+    public static boolean violates(DataIntegrityViolationException e, String constraintName) {
+        String expected = constraintName.toUpperCase();
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getConstraintName() != null
+                    && violation.getConstraintName().toUpperCase().contains(expected)) {
+                return true;
+            }
+            if (cause.getMessage() != null && cause.getMessage().toUpperCase().contains(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
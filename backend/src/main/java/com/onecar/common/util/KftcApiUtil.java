@@ -1,53 +1,215 @@
 package com.onecar.common.util;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onecar.auth.entity.KftcToken;
 import com.onecar.auth.service.AuthService;
-import lombok.RequiredArgsConstructor;
+import com.onecar.common.dto.KftcBatchItem;
+import com.onecar.common.exception.BusinessException;
+import com.onecar.common.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.List;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class KftcApiUtil {
     
     private final WebClient webClient;
     private final AuthService authService;
+    private final Scheduler blockingScheduler;
+    private final KftcResilience kftcResilience;
+    private final KftcResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+    
+    private final AsyncPermits globalPermits;
+    // 회원별 허용량: 같은 회원의 여러 일괄 조회 요청이 동시에 와도 합쳐서 per-member-concurrency 이하
+    private final Cache<String, AsyncPermits> memberPermits;
+    private final Duration permitWait;
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
     
     @Value("${openbanking.base-url}")
     private String kftcBaseUrl;
     
+    @Value("${openbanking.fan-out.max-batch-size:20}")
+    private int maxBatchSize;
+    
+    @Value("${openbanking.fan-out.per-member-concurrency:4}")
+    private int perMemberConcurrency;
+    
+    @Value("${openbanking.fan-out.per-member-queue-size:100}")
+    private int perMemberQueueSize;
+    
+    public KftcApiUtil(WebClient webClient, AuthService authService, Scheduler blockingScheduler,
+                       KftcResilience kftcResilience, KftcResponseCache responseCache, ObjectMapper objectMapper,
+                       @Value("${openbanking.fan-out.global-concurrency:64}") int globalConcurrency,
+                       @Value("${openbanking.fan-out.global-queue-size:1000}") int globalQueueSize,
+                       @Value("${openbanking.fan-out.permit-wait-ms:2000}") long permitWaitMillis) {
+        this.webClient = webClient;
+        this.authService = authService;
+        this.blockingScheduler = blockingScheduler;
+        this.kftcResilience = kftcResilience;
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
+        this.permitWait = Duration.ofMillis(permitWaitMillis);
+        this.globalPermits = new AsyncPermits(globalConcurrency, globalQueueSize, permitWait);
+        // 일정 시간 요청이 없는 회원의 허용량은 제거 (실행 중인 호출은 이전 객체에 반납되므로 안전)
+        this.memberPermits = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+    
     public <T> T callKftcGetApi(String onecarAccessToken, String endpoint, Class<T> responseType) {
-        String kftcAccessToken = authService.getKftcAccessTokenByOnecarToken(onecarAccessToken);
-        
-        log.info("KFTC API 호출 - GET {}", endpoint);
-        
-        return webClient.get()
-                .uri(kftcBaseUrl + endpoint)
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + kftcAccessToken)
-                .retrieve()
-                .bodyToMono(responseType)
-                .doOnSuccess(response -> log.info("KFTC API 호출 성공 - GET {}", endpoint))
-                .doOnError(error -> log.error("KFTC API 호출 실패 - GET {}: {}", endpoint, error.getMessage()))
-                .block();
+        return callKftcGetApiAsync(onecarAccessToken, endpoint, responseType).block();
     }
     
     public <T> T callKftcPostApi(String onecarAccessToken, String endpoint, 
                                 Object requestBody, Class<T> responseType) {
-        String kftcAccessToken = authService.getKftcAccessTokenByOnecarToken(onecarAccessToken);
-        
-        log.info("KFTC API 호출 - POST {}", endpoint);
+        return callKftcPostApiAsync(onecarAccessToken, endpoint, requestBody, responseType).block();
+    }
+    
+    /**
+     * 컨트롤러에서 그대로 반환하면 서블릿 스레드를 점유하지 않고 비동기로 응답한다.
+     */
+    public <T> Mono<T> callKftcGetApiAsync(String onecarAccessToken, String endpoint, Class<T> responseType) {
+        return resolveKftcCredential(onecarAccessToken)
+                .flatMap(credential -> get(credential, endpoint, responseType));
+    }
+    
+    public <T> List<KftcBatchItem<T>> callKftcGetApiBatch(String onecarAccessToken, List<String> endpoints,
+                                                         Class<T> responseType) {
+        return callKftcGetApiBatchAsync(onecarAccessToken, endpoints, responseType).block();
+    }
+    
+    /**
+     * 한 회원의 여러 GET 엔드포인트를 동시에 호출한다. KFTC 토큰은 한 번만 조회하며,
+     * 결과는 요청 순서대로 항목별 성공/실패로 반환한다 (일부 실패해도 전체는 성공).
+     * 동시 호출 수는 회원당(동시에 들어온 여러 요청 합산) per-member-concurrency, 전체 global-concurrency 로 제한되며,
+     * 한도를 넘는 호출은 대기열에서 기다렸다가 실행된다.
+     */
+    public <T> Mono<List<KftcBatchItem<T>>> callKftcGetApiBatchAsync(String onecarAccessToken, List<String> endpoints,
+                                                                    Class<T> responseType) {
+        if (endpoints.size() > maxBatchSize) {
+            return Mono.error(new BusinessException(ErrorCode.INVALID_INPUT_VALUE));
+        }
         
-        return webClient.post()
-                .uri(kftcBaseUrl + endpoint)
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + kftcAccessToken)
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(responseType)
+        return resolveKftcCredential(onecarAccessToken)
+                .flatMap(credential -> Flux.fromIterable(endpoints)
+                        .flatMapSequential(endpoint -> withPermits(credential.getMemberId(),
+                                        get(credential, endpoint, responseType))
+                                .map(data -> KftcBatchItem.success(endpoint, data))
+                                .defaultIfEmpty(KftcBatchItem.success(endpoint, null))
+                                .onErrorResume(error -> Mono.just(KftcBatchItem.failure(endpoint, error))),
+                                perMemberConcurrency)
+                        .collectList());
+    }
+    
+    /**
+     * JSON 배열 응답을 요소 단위로 받는다.
+     */
+    public <T> Flux<T> callKftcGetApiAsFlux(String onecarAccessToken, String endpoint, Class<T> elementType) {
+        return resolveKftcCredential(onecarAccessToken)
+                .flatMapMany(credential -> {
+                    log.info("KFTC API 호출 - GET {}", endpoint);
+                    return kftcResilience.protectMany(webClient.get()
+                            .uri(kftcBaseUrl + endpoint)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + credential.getAccessToken())
+                            .retrieve()
+                            .bodyToFlux(elementType));
+                })
+                .doOnComplete(() -> log.info("KFTC API 호출 성공 - GET {}", endpoint))
+                .doOnError(error -> log.error("KFTC API 호출 실패 - GET {}: {}", endpoint, error.getMessage()));
+    }
+    
+    public <T> Mono<T> callKftcPostApiAsync(String onecarAccessToken, String endpoint, 
+                                           Object requestBody, Class<T> responseType) {
+        // POST는 멱등이 아니므로 동일한 요청이라도 합치거나 재시도하지 않는다 (두 번의 같은 이체는 두 번 호출)
+        return resolveKftcCredential(onecarAccessToken)
+                .flatMap(credential -> {
+                    log.info("KFTC API 호출 - POST {}", endpoint);
+                    return kftcResilience.protect(webClient.post()
+                                    .uri(kftcBaseUrl + endpoint)
+                                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + credential.getAccessToken())
+                                    .bodyValue(requestBody)
+                                    .retrieve()
+                                    .bodyToMono(String.class), false)
+                            // 회원 데이터가 바뀌었을 수 있으므로 캐시된 GET 응답 제거
+                            .doOnSuccess(response -> responseCache.invalidateMember(credential.getMemberId()));
+                })
+                .map(body -> readBody(body, responseType))
                 .doOnSuccess(response -> log.info("KFTC API 호출 성공 - POST {}", endpoint))
-                .doOnError(error -> log.error("KFTC API 호출 실패 - POST {}: {}", endpoint, error.getMessage()))
-                .block();
+                .doOnError(error -> log.error("KFTC API 호출 실패 - POST {}: {}", endpoint, error.getMessage()));
+    }
+    
+    /**
+     * 응답 본문은 문자열로 받아 캐시하고, 호출한 타입으로 변환한다.
+     */
+    private <T> Mono<T> get(KftcToken credential, String endpoint, Class<T> responseType) {
+        // 같은 회원의 동일 요청이 진행 중이면 그 응답을 함께 사용 (키의 무효화 세대는 구독 시점에 읽는다)
+        Mono<String> upstream = Mono.defer(() -> singleFlight.execute(flightKey(credential, endpoint), () -> {
+                    log.info("KFTC API 호출 - GET {}", endpoint);
+                    return kftcResilience.protect(webClient.get()
+                            .uri(kftcBaseUrl + endpoint)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + credential.getAccessToken())
+                            .retrieve()
+                            .bodyToMono(String.class), true);
+                }))
+                .doOnSuccess(response -> log.info("KFTC API 호출 성공 - GET {}", endpoint))
+                .doOnError(error -> log.error("KFTC API 호출 실패 - GET {}: {}", endpoint, error.getMessage()));
+        
+        return responseCache.get(credential.getMemberId(), endpoint, upstream)
+                .map(body -> readBody(body, responseType));
+    }
+    
+    // 회원 캐시 무효화(POST, 재연동) 이후의 요청은 이전에 시작한 요청과 합치지 않는다
+    private String flightKey(KftcToken credential, String endpoint) {
+        return credential.getMemberId() + "|GET|" + endpoint + "|" + responseCache.generationOf(credential.getMemberId());
+    }
+    
+    private <T> T readBody(String body, Class<T> responseType) {
+        if (responseType == String.class) {
+            return responseType.cast(body);
+        }
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.KFTC_API_ERROR, "KFTC 응답 형식 오류 - " + e.getOriginalMessage());
+        }
+    }
+    
+    /**
+     * 회원 허용량을 먼저 얻고 전체 허용량을 얻는다 (한 회원의 대기가 전체 대기열을 차지하지 않도록).
+     * 두 대기는 하나의 마감 시각을 공유하므로 합쳐서 permit-wait-ms 안에 얻지 못하거나 대기열이 가득 차면 SERVER_BUSY.
+     */
+    private <T> Mono<T> withPermits(String memberId, Mono<T> call) {
+        AsyncPermits member = memberPermits.get(memberId, id ->
+                new AsyncPermits(perMemberConcurrency, perMemberQueueSize, permitWait));
+        return Mono.defer(() -> {
+            long deadlineNanos = System.nanoTime() + permitWait.toNanos();
+            return member.withPermit(globalPermits.withPermit(call, deadlineNanos), deadlineNanos);
+        });
+    }
+    
+    // 캐시 미스 시 DB 조회가 있으므로 블로킹 전용 스케줄러에서 실행
+    private Mono<KftcToken> resolveKftcCredential(String onecarAccessToken) {
+        return Mono.fromCallable(() -> {
+                    KftcToken kftcToken = authService.getKftcTokenByOnecarToken(onecarAccessToken);
+                    if (kftcToken.isExpired()) {
+                        throw new BusinessException(ErrorCode.EXPIRED_TOKEN);
+                    }
+                    return kftcToken;
+                })
+                .subscribeOn(blockingScheduler);
     }
-}
\ No newline at end of file
+}
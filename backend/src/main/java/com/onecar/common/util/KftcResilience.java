@@ -0,0 +1,202 @@
+package com.onecar.common.util;
+
+import com.onecar.common.exception.BusinessException;
+import com.onecar.common.exception.ErrorCode;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.netty.handler.timeout.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.PrematureCloseException;
+import reactor.util.retry.Retry;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KFTC 호출 보호: 서킷 브레이커(열림 상태에서 즉시 실패), 재시도 예산 안에서의 GET 재시도,
+ * 지연 p95 이후의 헤지 요청(선택), 오류를 K_00x 코드로 변환.
+ * 4xx 응답은 상대 서버 장애가 아니므로 서킷 브레이커 실패로 집계하지 않는다.
+ */
+@Slf4j
+@Component
+public class KftcResilience {
+
+    private final CircuitBreaker circuitBreaker;
+    private final RetryBudget retryBudget;
+    private final Timer latencyTimer;
+    private final Counter retryCounter;
+    private final Counter hedgeCounter;
+
+    @Value("${openbanking.resilience.retry.max-attempts:2}")
+    private int retryMaxAttempts;
+
+    @Value("${openbanking.resilience.retry.backoff-ms:100}")
+    private long retryBackoffMillis;
+
+    @Value("${openbanking.resilience.hedge.enabled:false}")
+    private boolean hedgeEnabled;
+
+    @Value("${openbanking.resilience.hedge.min-delay-ms:50}")
+    private long hedgeMinDelayMillis;
+
+    public KftcResilience(
+            MeterRegistry meterRegistry,
+            @Value("${openbanking.resilience.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${openbanking.resilience.circuit-breaker.slow-call-duration-ms:3000}") long slowCallDurationMillis,
+            @Value("${openbanking.resilience.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${openbanking.resilience.circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+            @Value("${openbanking.resilience.circuit-breaker.minimum-number-of-calls:20}") int minimumNumberOfCalls,
+            @Value("${openbanking.resilience.circuit-breaker.wait-duration-open-ms:10000}") long waitDurationOpenMillis,
+            @Value("${openbanking.resilience.circuit-breaker.permitted-calls-half-open:5}") int permittedCallsHalfOpen,
+            @Value("${openbanking.resilience.retry.budget-ratio:0.1}") double retryBudgetRatio,
+            @Value("${openbanking.resilience.retry.budget-max:20}") int retryBudgetMax) {
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMillis))
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(Duration.ofMillis(waitDurationOpenMillis))
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsHalfOpen)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordException(KftcResilience::isUpstreamFailure)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        this.circuitBreaker = registry.circuitBreaker("kftc");
+        this.circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> log.warn("KFTC 서킷 브레이커 상태 변경 - {}", event.getStateTransition()));
+
+        this.retryBudget = new RetryBudget(retryBudgetRatio, retryBudgetMax);
+        Gauge.builder("kftc.client.retry.budget", retryBudget, RetryBudget::available)
+                .register(meterRegistry);
+
+        this.latencyTimer = Timer.builder("kftc.client.latency")
+                .publishPercentiles(0.95)
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("kftc.client.retries")
+                .register(meterRegistry);
+        this.hedgeCounter = Counter.builder("kftc.client.hedges")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param idempotent true(GET)일 때만 재시도/헤지 요청을 한다
+     */
+    public <T> Mono<T> protect(Mono<T> call, boolean idempotent) {
+        Mono<T> attempt = timed(call).transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+
+        Mono<T> protectedCall;
+        if (idempotent) {
+            Mono<T> hedged = hedgeEnabled ? hedged(attempt) : attempt;
+            protectedCall = hedged.retryWhen(Retry.backoff(retryMaxAttempts, Duration.ofMillis(retryBackoffMillis))
+                    .filter(error -> isRetryable(error) && retryBudget.tryWithdraw())
+                    .doBeforeRetry(signal -> retryCounter.increment())
+                    .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+        } else {
+            protectedCall = attempt;
+        }
+
+        return Mono.defer(() -> {
+                    retryBudget.deposit();
+                    return protectedCall;
+                })
+                .onErrorMap(error -> !(error instanceof BusinessException), KftcResilience::toBusinessException);
+    }
+
+    /**
+     * 스트리밍 응답은 재시도/헤지 없이 서킷 브레이커와 오류 변환만 적용
+     */
+    public <T> Flux<T> protectMany(Flux<T> call) {
+        return Flux.defer(() -> {
+                    retryBudget.deposit();
+                    return call.transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+                })
+                .onErrorMap(error -> !(error instanceof BusinessException), KftcResilience::toBusinessException);
+    }
+
+    /**
+     * 지연 p95가 지나도록 응답이 없으면 같은 요청을 한 번 더 보내 먼저 온 응답을 사용한다.
+     * 헤지 요청도 재시도 예산을 사용하며, 헤지 요청의 실패는 무시하고 원 요청의 결과를 따른다.
+     */
+    private <T> Mono<T> hedged(Mono<T> attempt) {
+        Mono<Optional<T>> primary = attempt.map(Optional::of).defaultIfEmpty(Optional.empty());
+        Mono<Optional<T>> hedge = Mono.defer(() -> Mono.delay(hedgeDelay()))
+                .flatMap(tick -> retryBudget.tryWithdraw()
+                        ? primary.doOnSubscribe(subscription -> hedgeCounter.increment())
+                        : Mono.<Optional<T>>never())
+                .onErrorResume(error -> Mono.never());
+
+        return Flux.merge(primary, hedge)
+                .next()
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    private Duration hedgeDelay() {
+        long p95Millis = 0;
+        for (ValueAtPercentile percentile : latencyTimer.takeSnapshot().percentileValues()) {
+            p95Millis = (long) percentile.value(TimeUnit.MILLISECONDS);
+        }
+        return Duration.ofMillis(Math.max(p95Millis, hedgeMinDelayMillis));
+    }
+
+    private <T> Mono<T> timed(Mono<T> call) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return call.doOnSuccess(response -> latencyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private static boolean isUpstreamFailure(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == 502 || status == 503 || status == 504;
+        }
+        // 연결 실패/중간 끊김만 재시도 (응답 타임아웃은 재시도해도 같은 결과일 가능성이 높다)
+        return error instanceof WebClientRequestException requestException
+                && (requestException.getCause() instanceof ConnectException
+                || requestException.getCause() instanceof PrematureCloseException);
+    }
+
+    private static BusinessException toBusinessException(Throwable error) {
+        if (error instanceof CallNotPermittedException) {
+            return new BusinessException(ErrorCode.KFTC_UNAVAILABLE);
+        }
+        if (error instanceof TimeoutException || error.getCause() instanceof TimeoutException) {
+            return new BusinessException(ErrorCode.KFTC_TIMEOUT);
+        }
+        if (error instanceof WebClientResponseException responseException) {
+            return new BusinessException(ErrorCode.KFTC_API_ERROR,
+                    "KFTC 응답 오류 - " + responseException.getStatusCode().value());
+        }
+        if (error instanceof WebClientRequestException) {
+            return new BusinessException(ErrorCode.KFTC_UNAVAILABLE);
+        }
+        return new BusinessException(ErrorCode.KFTC_API_ERROR);
+    }
+}
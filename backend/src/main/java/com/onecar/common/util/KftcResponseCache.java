@@ -0,0 +1,188 @@
+package com.onecar.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 회원별 KFTC GET 응답 캐시 (key: 회원 ID + 엔드포인트(쿼리 포함), value: 응답 JSON 문자열).
+ * <ul>
+ *     <li>TTL은 엔드포인트 경로 접두사별로 설정하며, 설정이 없는 엔드포인트(잔액/거래내역 등)는 캐시하지 않는다.</li>
+ *     <li>전체 크기는 응답 바이트 수 기준으로 제한한다. 초과 시 Caffeine의 W-TinyLFU 정책으로 제거한다 (LRU가 아님:
+ *     최근성과 접근 빈도를 함께 보므로 한 번 조회된 응답이 자주 쓰이는 응답을 밀어내지 않는다).</li>
+ *     <li>TTL이 지난 뒤 stale 기간 안의 요청에는 이전 응답을 바로 돌려주고 백그라운드에서 갱신한다.</li>
+ *     <li>조회/갱신 중 회원 캐시가 무효화되면 그 응답은 캐시에 남기지 않는다 (회원별 무효화 세대 비교).</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class KftcResponseCache {
+
+    private static final String KEY_SEPARATOR = "|";
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<String, CachedResponse> cache;
+    private final Map<String, Integer> ttlSecondsByPrefix;
+    private final Duration staleWindow;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Counter staleCounter;
+    // 회원별 무효화 세대 (회원 ID 해시로 나눈 고정 크기 배열, 같은 칸의 회원끼리는 무효화를 공유한다)
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public KftcResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${openbanking.response-cache.maximum-bytes:52428800}") long maximumBytes,
+            @Value("#{${openbanking.response-cache.ttl-seconds:{'/v2.0/user/me': 300, '/v2.0/account/list': 300}}}") Map<String, Integer> ttlSecondsByPrefix,
+            @Value("${openbanking.response-cache.stale-seconds:60}") long staleSeconds) {
+
+        this.ttlSecondsByPrefix = ttlSecondsByPrefix;
+        this.staleWindow = Duration.ofSeconds(staleSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String key, CachedResponse value) -> (key.length() + value.body.length()) * 2)
+                .expireAfter(new StaleExpiry(staleWindow))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "kftcResponse");
+        this.staleCounter = Counter.builder("kftc.response.cache.stale")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param loader 캐시 미스 또는 갱신 시 실행할 원 요청 (응답 JSON 문자열)
+     */
+    public Mono<String> get(String memberId, String endpoint, Mono<String> loader) {
+        Duration ttl = ttlFor(endpoint);
+        if (ttl == null) {
+            return loader;
+        }
+
+        String key = memberId + KEY_SEPARATOR + endpoint;
+        CachedResponse cached = cache.getIfPresent(key);
+
+        if (cached != null) {
+            if (!cached.isStale()) {
+                return Mono.just(cached.body);
+            }
+            staleCounter.increment();
+            refreshInBackground(memberId, key, ttl, loader);
+            return Mono.just(cached.body);
+        }
+
+        return Mono.defer(() -> {
+            long generation = generationOf(memberId);
+            return loader.doOnNext(body -> putIfCurrent(memberId, generation, key, new CachedResponse(body, ttl)));
+        });
+    }
+
+    /**
+     * POST 호출, KFTC 재연동 등으로 회원 데이터가 바뀌었을 때 해당 회원의 캐시를 모두 제거
+     */
+    public void invalidateMember(String memberId) {
+        generations.incrementAndGet(stripeOf(memberId));
+        String prefix = memberId + KEY_SEPARATOR;
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    // 같은 키의 갱신은 한 번만 진행
+    private void refreshInBackground(String memberId, String key, Duration ttl, Mono<String> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        long generation = generationOf(memberId);
+        loader.doFinally(signal -> refreshing.remove(key))
+                .subscribe(
+                        body -> putIfCurrent(memberId, generation, key, new CachedResponse(body, ttl)),
+                        error -> log.warn("KFTC 응답 캐시 갱신 실패 - {}: {}", key, error.getMessage()));
+    }
+
+    /**
+     * 조회 시작 후 무효화가 있었으면 저장하지 않는다. 저장과 무효화가 겹친 경우에는 저장한 값만 다시 제거한다.
+     */
+    private void putIfCurrent(String memberId, long generation, String key, CachedResponse response) {
+        if (generationOf(memberId) != generation) {
+            return;
+        }
+        cache.put(key, response);
+        if (generationOf(memberId) != generation) {
+            cache.asMap().remove(key, response);
+        }
+    }
+
+    /**
+     * 회원 캐시의 현재 무효화 세대. 진행 중인 요청을 합칠 때 키에 포함하면 무효화 이후 요청이
+     * 무효화 이전에 시작한 요청의 응답을 함께 받지 않는다.
+     */
+    public long generationOf(String memberId) {
+        return generations.get(stripeOf(memberId));
+    }
+
+    private static int stripeOf(String memberId) {
+        return Math.floorMod(memberId.hashCode(), GENERATION_STRIPES);
+    }
+
+    // 가장 긴(구체적인) 접두사의 TTL 사용
+    private Duration ttlFor(String endpoint) {
+        return ttlSecondsByPrefix.entrySet().stream()
+                .filter(entry -> endpoint.startsWith(entry.getKey()))
+                .max(Comparator.comparingInt(entry -> entry.getKey().length()))
+                .map(entry -> Duration.ofSeconds(entry.getValue()))
+                .orElse(null);
+    }
+
+    private static class CachedResponse {
+
+        private final String body;
+        private final long freshUntilNanos;
+        private final Duration ttl;
+
+        private CachedResponse(String body, Duration ttl) {
+            this.body = body;
+            this.ttl = ttl;
+            this.freshUntilNanos = System.nanoTime() + ttl.toNanos();
+        }
+
+        private boolean isStale() {
+            return System.nanoTime() - freshUntilNanos > 0;
+        }
+    }
+
+    // TTL + stale 기간이 지나면 제거
+    private static class StaleExpiry implements Expiry<String, CachedResponse> {
+
+        private final Duration staleWindow;
+
+        private StaleExpiry(Duration staleWindow) {
+            this.staleWindow = staleWindow;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            return value.ttl.plus(staleWindow).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.onecar.common.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도 예산. 요청마다 ratio 만큼 적립하고 재시도(헤지 요청 포함) 1회에 1을 사용한다.
+ * 장애 시 재시도가 원 요청의 ratio 비율을 넘지 않아 상대 서버에 부하를 더하지 않는다.
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    public RetryBudget(double ratio, int maxRetries) {
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.maxBalance = maxRetries * SCALE;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    public void deposit() {
+        balance.accumulateAndGet(depositPerRequest, (current, amount) -> Math.min(current + amount, maxBalance));
+    }
+
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    public double available() {
+        return (double) balance.get() / SCALE;
+    }
+}
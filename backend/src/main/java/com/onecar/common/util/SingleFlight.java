@@ -0,0 +1,40 @@
+package com.onecar.common.util;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청을 하나의 실행으로 합친다.
+ * 진행 중인 실행이 있으면 그 결과(값/빈 값/오류)를 함께 받고, 실행이 끝나면 키를 제거하므로
+ * 이후 요청은 새로 실행된다 (결과를 캐시하지 않는다). 모든 구독자가 취소하면 실행도 취소된다.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> {
+            Mono<V> existing = inFlight.get(key);
+            if (existing != null) {
+                return existing;
+            }
+
+            AtomicReference<Mono<V>> self = new AtomicReference<>();
+            Mono<V> flight = Mono.defer(call)
+                    .doFinally(signal -> inFlight.remove(key, self.get()))
+                    .share();
+            self.set(flight);
+
+            existing = inFlight.putIfAbsent(key, flight);
+            return existing != null ? existing : flight;
+        });
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,21 @@
+-- ============================================================
+-- onecar_mycar 차량 이미지 분리 스크립트 (Oracle)
+--
+-- 내 차량 목록은 이미지(LOB)를 복사해 두지 않고 cars.id(car_id)만 참조하며,
+-- 이미지는 /api/cars/{carId}/image 로 제공한다.
+--  * car_id 컬럼은 ddl-auto(update)로 추가되지만, 기존 행은 이 스크립트로 채운다.
+--  * 채운 뒤에는 복사해 둔 car_image LOB를 비워 저장 공간을 돌려받는다.
+-- ============================================================
+
+-- 1) car_id 컬럼 (ddl-auto로 이미 추가된 경우 생략)
+-- ALTER TABLE onecar_mycar ADD (car_id NUMBER(19));
+
+-- 2) 등록 당시 번호판으로 차량 제원 ID 채우기
+UPDATE onecar_mycar m
+   SET m.car_id = (SELECT uc.car_id FROM user_cars uc WHERE uc.license_plate = m.license_plate)
+ WHERE m.car_id IS NULL;
+COMMIT;
+
+-- 3) 복사본 이미지 제거 (애플리케이션은 더 이상 읽지 않음)
+UPDATE onecar_mycar SET car_image = NULL WHERE car_id IS NOT NULL AND car_image IS NOT NULL;
+COMMIT;
@@ -0,0 +1,31 @@
+-- ============================================================
+-- onecar_mycar 번호판/VIN 유니크 제약 추가 스크립트 (Oracle)
+--
+-- 차량 등록은 exists 조회 없이 INSERT 후 제약 위반으로 중복을 판별하므로
+-- 애플리케이션 배포 전에 1회 실행한다.
+--  * 제약명은 OnecarMyCar.LICENSE_PLATE_CONSTRAINT / VIN_CONSTRAINT 와 같아야
+--    DUPLICATE_LICENSE_PLATE / DUPLICATE_VIN 으로 구분된다.
+--  * 기존 vin 컬럼의 이름 없는(SYS_C...) 유니크 제약은 제거하고 다시 만든다.
+-- ============================================================
+
+-- 1) 중복 데이터 확인 (결과가 있으면 정리 후 진행)
+SELECT license_plate, COUNT(*) FROM onecar_mycar GROUP BY license_plate HAVING COUNT(*) > 1;
+SELECT vin, COUNT(*) FROM onecar_mycar WHERE vin IS NOT NULL GROUP BY vin HAVING COUNT(*) > 1;
+
+-- 2) vin 컬럼의 기존 유니크 제약 제거
+BEGIN
+    FOR c IN (SELECT uc.constraint_name
+                FROM user_constraints uc
+                JOIN user_cons_columns ucc ON ucc.constraint_name = uc.constraint_name
+               WHERE uc.table_name = 'ONECAR_MYCAR'
+                 AND uc.constraint_type = 'U'
+                 AND ucc.column_name = 'VIN'
+                 AND uc.constraint_name <> 'UK_ONECAR_MYCAR_VIN') LOOP
+        EXECUTE IMMEDIATE 'ALTER TABLE onecar_mycar DROP CONSTRAINT ' || c.constraint_name;
+    END LOOP;
+END;
+/
+
+-- 3) 이름 있는 유니크 제약 추가
+ALTER TABLE onecar_mycar ADD CONSTRAINT uk_onecar_mycar_license_plate UNIQUE (license_plate);
+ALTER TABLE onecar_mycar ADD CONSTRAINT uk_onecar_mycar_vin UNIQUE (vin);
@@ -0,0 +1,30 @@
+-- ============================================================
+-- 시퀀스 블록 할당(pooled-lo) 전환 스크립트 (Oracle)
+--
+-- 애플리케이션 배포 전에 1회 실행한다.
+--  * Hibernate는 increment_size_mismatch_strategy=fix 이므로 DB 시퀀스의
+--    INCREMENT BY 값을 블록 크기로 사용한다. 블록 크기를 바꾸려면
+--    ALTER SEQUENCE ... INCREMENT BY n 만 실행하면 된다.
+--  * kftc_token, onecar_mycar 는 IDENTITY(GENERATED ALWAYS)에서 시퀀스로
+--    전환하므로 id 직접 입력을 허용하고, 기존 최대 id 이후부터 시작하는
+--    시퀀스를 만든다. (cars, user_cars 는 앱에서 INSERT 하지 않으므로 제외)
+-- ============================================================
+
+-- 1) 기존 시퀀스 증가폭 변경
+ALTER SEQUENCE ONECAR_TOKEN_SEQ INCREMENT BY 50;
+ALTER SEQUENCE OAUTH_SESSION_SEQ INCREMENT BY 50;
+
+-- 2) IDENTITY -> 시퀀스
+ALTER TABLE kftc_token MODIFY (id GENERATED BY DEFAULT ON NULL AS IDENTITY);
+ALTER TABLE onecar_mycar MODIFY (id GENERATED BY DEFAULT ON NULL AS IDENTITY);
+
+DECLARE
+    next_id NUMBER;
+BEGIN
+    SELECT NVL(MAX(id), 0) + 1 INTO next_id FROM kftc_token;
+    EXECUTE IMMEDIATE 'CREATE SEQUENCE KFTC_TOKEN_SEQ START WITH ' || next_id || ' INCREMENT BY 50';
+
+    SELECT NVL(MAX(id), 0) + 1 INTO next_id FROM onecar_mycar;
+    EXECUTE IMMEDIATE 'CREATE SEQUENCE ONECAR_MYCAR_SEQ START WITH ' || next_id || ' INCREMENT BY 50';
+END;
+/
@@ -0,0 +1,131 @@
+package com.onecar.common.util;
+
+import com.onecar.common.exception.BusinessException;
+import com.onecar.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncPermitsTest {
+
+	private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(5);
+
+	@Test
+	void limitsConcurrentCallsAndQueuesTheRest() {
+		AsyncPermits permits = new AsyncPermits(4, 1000, Duration.ofSeconds(5));
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+
+		Long completed = Flux.range(0, 200)
+				.flatMap(i -> permits.withPermit(Mono.fromCallable(() -> {
+									maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+									return i;
+								})
+								.delayElement(Duration.ofMillis(1))
+								.doOnTerminate(running::decrementAndGet)),
+						100)
+				.count()
+				.block(BLOCK_TIMEOUT);
+
+		assertThat(completed).isEqualTo(200);
+		assertThat(maxRunning.get()).isEqualTo(4);
+	}
+
+	@Test
+	void rejectsImmediatelyWhenQueueIsFull() {
+		AsyncPermits permits = new AsyncPermits(1, 1, Duration.ofSeconds(5));
+		Disposable holder = permits.withPermit(Mono.never()).subscribe();
+		Disposable waiter = permits.withPermit(Mono.never()).subscribe();
+
+		assertServerBusy(permits.withPermit(Mono.just("rejected")));
+
+		holder.dispose();
+		waiter.dispose();
+		assertThat(permits.withPermit(Mono.just("ok")).block(BLOCK_TIMEOUT)).isEqualTo("ok");
+	}
+
+	@Test
+	void timesOutWaitingAndLeavesNoStaleWaiter() {
+		AsyncPermits permits = new AsyncPermits(1, 10, Duration.ofMillis(50));
+		Sinks.Empty<Void> release = Sinks.empty();
+		permits.withPermit(release.asMono()).subscribe();
+
+		assertServerBusy(permits.withPermit(Mono.just("timeout")));
+
+		// 시간 초과한 대기자는 대기열에서 빠졌으므로 반납된 허용량이 바로 다음 호출에 쓰인다
+		release.tryEmitEmpty();
+		assertThat(permits.withPermit(Mono.just("ok")).block(BLOCK_TIMEOUT)).isEqualTo("ok");
+	}
+
+	@Test
+	void sharedDeadlineBoundsTheTotalWait() {
+		AsyncPermits first = new AsyncPermits(1, 10, Duration.ofSeconds(5));
+		AsyncPermits second = new AsyncPermits(1, 10, Duration.ofSeconds(5));
+		second.withPermit(Mono.never()).subscribe();
+
+		long deadline = System.nanoTime() + Duration.ofMillis(100).toNanos();
+		long startedAt = System.nanoTime();
+		assertServerBusy(first.withPermit(second.withPermit(Mono.just("blocked"), deadline), deadline));
+
+		assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+		// 바깥 허용량도 반납되었다
+		assertThat(first.withPermit(Mono.just("ok")).block(BLOCK_TIMEOUT)).isEqualTo("ok");
+	}
+
+	@Test
+	void releasesPermitWhenCallFails() {
+		AsyncPermits permits = new AsyncPermits(1, 10, Duration.ofMillis(200));
+
+		assertThatThrownBy(() -> permits.withPermit(Mono.error(new IllegalStateException("fail"))).block(BLOCK_TIMEOUT))
+				.isInstanceOf(IllegalStateException.class);
+
+		assertThat(permits.withPermit(Mono.just("ok")).block(BLOCK_TIMEOUT)).isEqualTo("ok");
+	}
+
+	@Test
+	void cancelledHoldersAndWaitersDoNotLeakPermits() throws InterruptedException {
+		AsyncPermits permits = new AsyncPermits(2, 1000, Duration.ofSeconds(5));
+
+		List<Disposable> subscriptions = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			subscriptions.add(permits.withPermit(Mono.delay(Duration.ofMillis(20))).subscribe());
+		}
+		// 실행 중인 호출과 대기 중인 호출을 동시에 취소해 반납/인계와 경합시킨다
+		Thread canceller = new Thread(() -> subscriptions.forEach(Disposable::dispose));
+		canceller.start();
+		canceller.join();
+
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		Long completed = Flux.range(0, 50)
+				.flatMap(i -> permits.withPermit(Mono.fromCallable(() -> {
+									maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+									return i;
+								})
+								.delayElement(Duration.ofMillis(1))
+								.doOnTerminate(running::decrementAndGet)),
+						50)
+				.count()
+				.block(BLOCK_TIMEOUT);
+
+		assertThat(completed).isEqualTo(50);
+		assertThat(maxRunning.get()).isEqualTo(2);
+	}
+
+	private static void assertServerBusy(Mono<?> call) {
+		assertThatThrownBy(() -> call.block(BLOCK_TIMEOUT))
+				.isInstanceOf(BusinessException.class)
+				.extracting(e -> ((BusinessException) e).getErrorCode())
+				.isEqualTo(ErrorCode.SERVER_BUSY);
+	}
+}
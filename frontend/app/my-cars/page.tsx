@@ -15,6 +15,9 @@ import { TelecomSelection } from "@/components/telecom-selection"
 import { UserVerification } from "@/components/user-verification"
 import api from "@/lib/api"
 
+// 이미지 URL(/api/cars/{id}/image)은 API 서버 기준 경로
+const API_ORIGIN = (api.defaults.baseURL || "").replace(/\/api\/?$/, "")
+
 export default function MyCarsPage() {
   const { isLoggedIn, hasOpenBanking, setOpenBankingConnected } = useAuth()
   const [cars, setCars] = useState<any[]>([])
@@ -241,7 +244,7 @@ export default function MyCarsPage() {
               <Card key={car.vin || idx} className="overflow-hidden">
                 <CardContent className="p-0">
                   <img
-                    src={car.carImage || "/placeholder.svg?height=200&width=300&text=차량이미지"}
+                    src={car.imageUrl ? `${API_ORIGIN}${car.imageUrl}?variant=medium` : "/placeholder.svg?height=200&width=300&text=차량이미지"}
                     alt={car.model}
                     className="w-full h-48 object-cover"
                   />